@@ -0,0 +1,22 @@
+package structures.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Entry point of benchmarks.jar: the usual JMH command line, but results are
+// written as JSON (jmh-result.json) unless -rf/-rff say otherwise, so two runs
+// can be diffed by the perf gate.
+public class BenchmarkRunner {
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions cli = new CommandLineOptions(args);
+    OptionsBuilder builder = new OptionsBuilder();
+    builder.parent(cli);
+    if (!cli.getResultFormat().hasValue())
+      builder.resultFormat(ResultFormatType.JSON);
+    Options options = builder.build();
+    new Runner(options).run();
+  }
+}
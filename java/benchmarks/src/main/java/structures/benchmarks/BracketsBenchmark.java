@@ -0,0 +1,68 @@
+package structures.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import structures.Stack.BracketsProblem;
+
+// Validate a balanced JSON-like document from a String, a Reader, a byte
+// channel and a file.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BracketsBenchmark {
+
+  @Param({ "1000", "100000", "1000000", "10000000" })
+  int size;
+
+  private String document;
+  private byte[] bytes;
+  private Path file;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    StringBuilder sb = new StringBuilder(size + 64);
+    while (sb.length() < size)
+      sb.append("{\"id\": [1, 2, {\"x\": (3)}], \"name\": \"value\"}");
+    document = sb.toString();
+    bytes = document.getBytes(StandardCharsets.UTF_8);
+    file = Files.createTempFile("brackets", ".json");
+    Files.write(file, bytes);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public boolean string() {
+    return BracketsProblem.isBalanced(document);
+  }
+
+  @Benchmark
+  public long reader() throws IOException {
+    return BracketsProblem.firstMismatch(new StringReader(document));
+  }
+
+  @Benchmark
+  public long channel() throws IOException {
+    return BracketsProblem.firstMismatch(Channels.newChannel(new ByteArrayInputStream(bytes)));
+  }
+
+  @Benchmark
+  public long file() throws IOException {
+    return BracketsProblem.firstMismatch(file);
+  }
+}
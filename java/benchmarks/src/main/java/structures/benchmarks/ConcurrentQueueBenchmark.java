@@ -0,0 +1,124 @@
+package structures.benchmarks;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import structures.Queue.BlockingArrayQueue;
+import structures.Queue.ConcurrentArrayQueue;
+import structures.Queue.LinkedConcurrentQueue;
+import structures.Queue.StaticArrayQueue;
+
+// Producers and consumers hammer one shared queue. Scale the thread counts
+// from the command line, e.g. -tg 8,8 for eight producers and eight consumers.
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConcurrentQueueBenchmark {
+
+  private static final Integer ELEMENT = 1;
+
+  @Param({ "1024", "65536" })
+  int capacity;
+
+  private ConcurrentArrayQueue<Integer> concurrentArrayQueue;
+  private LinkedConcurrentQueue<Integer> linkedConcurrentQueue;
+  private StaticArrayQueue<Integer> synchronizedQueue;
+  private ArrayBlockingQueue<Integer> arrayBlockingQueue;
+  private BlockingArrayQueue<Integer> blockingArrayQueue;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    concurrentArrayQueue = new ConcurrentArrayQueue<>(capacity);
+    linkedConcurrentQueue = new LinkedConcurrentQueue<>();
+    synchronizedQueue = new StaticArrayQueue<>(capacity);
+    arrayBlockingQueue = new ArrayBlockingQueue<>(capacity);
+    blockingArrayQueue = new BlockingArrayQueue<>(capacity);
+  }
+
+  // ---------------- ConcurrentArrayQueue ----------------
+  @Benchmark
+  @Group("concurrentArrayQueue")
+  @GroupThreads(1)
+  public boolean concurrentArrayQueueOffer() {
+    return concurrentArrayQueue.offer(ELEMENT);
+  }
+
+  @Benchmark
+  @Group("concurrentArrayQueue")
+  @GroupThreads(1)
+  public Integer concurrentArrayQueuePoll() {
+    return concurrentArrayQueue.poll();
+  }
+
+  // ---------------- LinkedConcurrentQueue (unbounded, capacity unused) ----------------
+  @Benchmark
+  @Group("linkedConcurrentQueue")
+  @GroupThreads(1)
+  public boolean linkedConcurrentQueueOffer() {
+    return linkedConcurrentQueue.offer(ELEMENT);
+  }
+
+  @Benchmark
+  @Group("linkedConcurrentQueue")
+  @GroupThreads(1)
+  public Integer linkedConcurrentQueuePoll() {
+    return linkedConcurrentQueue.poll();
+  }
+
+  // ---------------- StaticArrayQueue under a lock ----------------
+  @Benchmark
+  @Group("synchronizedStaticArrayQueue")
+  @GroupThreads(1)
+  public boolean synchronizedOffer() {
+    synchronized (synchronizedQueue) {
+      if (synchronizedQueue.isFull())
+        return false;
+      synchronizedQueue.enqueue(ELEMENT);
+      return true;
+    }
+  }
+
+  @Benchmark
+  @Group("synchronizedStaticArrayQueue")
+  @GroupThreads(1)
+  public Integer synchronizedPoll() {
+    synchronized (synchronizedQueue) {
+      return synchronizedQueue.isEmpty() ? null : synchronizedQueue.dequeue();
+    }
+  }
+
+  // ---------------- ArrayBlockingQueue ----------------
+  @Benchmark
+  @Group("arrayBlockingQueue")
+  @GroupThreads(1)
+  public boolean arrayBlockingQueueOffer() {
+    return arrayBlockingQueue.offer(ELEMENT);
+  }
+
+  @Benchmark
+  @Group("arrayBlockingQueue")
+  @GroupThreads(1)
+  public Integer arrayBlockingQueuePoll() {
+    return arrayBlockingQueue.poll();
+  }
+
+  // ---------------- BlockingArrayQueue ----------------
+  @Benchmark
+  @Group("blockingArrayQueue")
+  @GroupThreads(1)
+  public boolean blockingArrayQueueOffer() {
+    return blockingArrayQueue.offer(ELEMENT);
+  }
+
+  @Benchmark
+  @Group("blockingArrayQueue")
+  @GroupThreads(1)
+  public Integer blockingArrayQueuePoll() {
+    return blockingArrayQueue.poll();
+  }
+}
@@ -0,0 +1,70 @@
+package structures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import structures.Stack.ConcurrentStack;
+import structures.Stack.Stack;
+
+// Threads push and pop one shared stack. Scale with -tg, e.g. -tg 16,16.
+// The contention counters of ConcurrentStack are printed after each iteration.
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConcurrentStackBenchmark {
+
+  private static final Integer ELEMENT = 1;
+
+  private ConcurrentStack<Integer> concurrentStack;
+  private Stack<Integer> synchronizedStack;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    concurrentStack = new ConcurrentStack<>();
+    synchronizedStack = new Stack<>();
+  }
+
+  @TearDown(Level.Iteration)
+  public void report() {
+    System.out.println("casFailures=" + concurrentStack.casFailures()
+        + " eliminations=" + concurrentStack.eliminations());
+  }
+
+  // ---------------- ConcurrentStack ----------------
+  @Benchmark
+  @Group("concurrentStack")
+  @GroupThreads(1)
+  public void concurrentStackPush() {
+    concurrentStack.push(ELEMENT);
+  }
+
+  @Benchmark
+  @Group("concurrentStack")
+  @GroupThreads(1)
+  public Integer concurrentStackPoll() {
+    return concurrentStack.poll();
+  }
+
+  // ---------------- Stack under a lock ----------------
+  @Benchmark
+  @Group("synchronizedStack")
+  @GroupThreads(1)
+  public void synchronizedPush() {
+    synchronized (synchronizedStack) {
+      synchronizedStack.push(ELEMENT);
+    }
+  }
+
+  @Benchmark
+  @Group("synchronizedStack")
+  @GroupThreads(1)
+  public Integer synchronizedPop() {
+    synchronized (synchronizedStack) {
+      return synchronizedStack.isEmpty() ? null : synchronizedStack.pop();
+    }
+  }
+}
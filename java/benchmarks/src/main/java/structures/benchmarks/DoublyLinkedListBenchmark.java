@@ -0,0 +1,110 @@
+package structures.benchmarks;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import structures.LinkedLists.DoublyLinkedList;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DoublyLinkedListBenchmark {
+
+  @Param({ "1000", "100000", "1000000", "10000000" })
+  int size;
+
+  private DoublyLinkedList<Integer> doublyLinkedList;
+  private LinkedList<Integer> linkedList;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    doublyLinkedList = new DoublyLinkedList<>();
+    linkedList = new LinkedList<>();
+    for (int i = 0; i < size; i++) {
+      doublyLinkedList.addLast(i);
+      linkedList.addLast(i);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Filled {
+    DoublyLinkedList<Integer> doublyLinkedList;
+    LinkedList<Integer> linkedList;
+
+    @Setup(Level.Invocation)
+    public void fill(DoublyLinkedListBenchmark benchmark) {
+      doublyLinkedList = new DoublyLinkedList<>();
+      linkedList = new LinkedList<>();
+      for (int i = 0; i < benchmark.size; i++) {
+        doublyLinkedList.addLast(i);
+        linkedList.addLast(i);
+      }
+    }
+  }
+
+  // ---------------- append ----------------
+  @Benchmark
+  public DoublyLinkedList<Integer> doublyLinkedListAppend() {
+    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+    for (int i = 0; i < size; i++)
+      list.addLast(i);
+    return list;
+  }
+
+  @Benchmark
+  public LinkedList<Integer> linkedListAppend() {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (int i = 0; i < size; i++)
+      list.addLast(i);
+    return list;
+  }
+
+  // ---------------- head removal ----------------
+  @Benchmark
+  public void doublyLinkedListRemoveHead(Filled state, Blackhole bh) {
+    DoublyLinkedList<Integer> list = state.doublyLinkedList;
+    while (!list.isEmpty())
+      bh.consume(list.removeFirst());
+  }
+
+  @Benchmark
+  public void linkedListRemoveHead(Filled state, Blackhole bh) {
+    LinkedList<Integer> list = state.linkedList;
+    while (!list.isEmpty())
+      bh.consume(list.removeFirst());
+  }
+
+  // ---------------- tail removal ----------------
+  @Benchmark
+  public void doublyLinkedListRemoveTail(Filled state, Blackhole bh) {
+    DoublyLinkedList<Integer> list = state.doublyLinkedList;
+    while (!list.isEmpty())
+      bh.consume(list.removeLast());
+  }
+
+  @Benchmark
+  public void linkedListRemoveTail(Filled state, Blackhole bh) {
+    LinkedList<Integer> list = state.linkedList;
+    while (!list.isEmpty())
+      bh.consume(list.removeLast());
+  }
+
+  // ---------------- iteration ----------------
+  @Benchmark
+  public void doublyLinkedListIterate(Blackhole bh) {
+    for (Integer value : doublyLinkedList)
+      bh.consume(value);
+  }
+
+  @Benchmark
+  public void linkedListIterate(Blackhole bh) {
+    for (Integer value : linkedList)
+      bh.consume(value);
+  }
+}
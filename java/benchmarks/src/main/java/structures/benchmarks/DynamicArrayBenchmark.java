@@ -0,0 +1,116 @@
+package structures.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import structures.DynamicArray.DynamicArray;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DynamicArrayBenchmark {
+
+  @Param({ "1000", "100000", "1000000", "10000000" })
+  int size;
+
+  private DynamicArray<Integer> dynamicArray;
+  private ArrayList<Integer> arrayList;
+  private int[] randomIndices;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    dynamicArray = new DynamicArray<>();
+    arrayList = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      dynamicArray.add(i);
+      arrayList.add(i);
+    }
+    Random random = new Random(42);
+    randomIndices = new int[size];
+    for (int i = 0; i < size; i++)
+      randomIndices[i] = random.nextInt(size);
+  }
+
+  // ---------------- append ----------------
+  @Benchmark
+  public DynamicArray<Integer> dynamicArrayAppend() {
+    DynamicArray<Integer> array = new DynamicArray<>();
+    for (int i = 0; i < size; i++)
+      array.add(i);
+    return array;
+  }
+
+  @Benchmark
+  public ArrayList<Integer> arrayListAppend() {
+    ArrayList<Integer> list = new ArrayList<>();
+    for (int i = 0; i < size; i++)
+      list.add(i);
+    return list;
+  }
+
+  // ---------------- random get ----------------
+  @Benchmark
+  public void dynamicArrayRandomGet(Blackhole bh) {
+    for (int index : randomIndices)
+      bh.consume(dynamicArray.get(index));
+  }
+
+  @Benchmark
+  public void arrayListRandomGet(Blackhole bh) {
+    for (int index : randomIndices)
+      bh.consume(arrayList.get(index));
+  }
+
+  // ---------------- tail removal ----------------
+  // Removing from the head of an array list is quadratic for both
+  // implementations, so only tail removal is measured here.
+  @State(Scope.Thread)
+  public static class Filled {
+    DynamicArray<Integer> dynamicArray;
+    ArrayList<Integer> arrayList;
+
+    @Setup(Level.Invocation)
+    public void fill(DynamicArrayBenchmark benchmark) {
+      dynamicArray = new DynamicArray<>();
+      arrayList = new ArrayList<>();
+      for (int i = 0; i < benchmark.size; i++) {
+        dynamicArray.add(i);
+        arrayList.add(i);
+      }
+    }
+  }
+
+  @Benchmark
+  public void dynamicArrayRemoveTail(Filled state, Blackhole bh) {
+    DynamicArray<Integer> array = state.dynamicArray;
+    while (!array.isEmpty())
+      bh.consume(array.removeAt(array.size() - 1));
+  }
+
+  @Benchmark
+  public void arrayListRemoveTail(Filled state, Blackhole bh) {
+    ArrayList<Integer> list = state.arrayList;
+    while (!list.isEmpty())
+      bh.consume(list.remove(list.size() - 1));
+  }
+
+  // ---------------- iteration ----------------
+  @Benchmark
+  public void dynamicArrayIterate(Blackhole bh) {
+    for (Integer value : dynamicArray)
+      bh.consume(value);
+  }
+
+  @Benchmark
+  public void arrayListIterate(Blackhole bh) {
+    for (Integer value : arrayList)
+      bh.consume(value);
+  }
+}
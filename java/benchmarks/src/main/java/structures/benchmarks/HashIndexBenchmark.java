@@ -0,0 +1,62 @@
+package structures.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import structures.DynamicArray.DynamicArray;
+import structures.LinkedLists.DoublyLinkedList;
+
+// Deduplicating insert: add a value only if contains() says it is new.
+// Without a hash index this is quadratic, hence the smaller size range.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HashIndexBenchmark {
+
+  @Param({ "1000", "10000", "100000" })
+  int size;
+
+  private Integer[] values;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    values = new Integer[size];
+    for (int i = 0; i < size; i++)
+      values[i] = random.nextInt(size);
+  }
+
+  @Benchmark
+  public DynamicArray<Integer> dynamicArrayDedup() {
+    return dedup(new DynamicArray<>());
+  }
+
+  @Benchmark
+  public DynamicArray<Integer> dynamicArrayIndexedDedup() {
+    DynamicArray<Integer> array = new DynamicArray<>();
+    array.enableHashIndex();
+    return dedup(array);
+  }
+
+  @Benchmark
+  public DoublyLinkedList<Integer> doublyLinkedListIndexedDedup() {
+    DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
+    list.enableHashIndex();
+    for (Integer value : values)
+      if (!list.contains(value))
+        list.addLast(value);
+    return list;
+  }
+
+  private DynamicArray<Integer> dedup(DynamicArray<Integer> array) {
+    for (Integer value : values)
+      if (!array.contains(value))
+        array.add(value);
+    return array;
+  }
+}
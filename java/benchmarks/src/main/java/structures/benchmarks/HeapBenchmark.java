@@ -0,0 +1,92 @@
+package structures.benchmarks;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import structures.DynamicArray.DynamicArray;
+import structures.Queue.DaryHeap;
+import structures.Queue.LongDaryHeap;
+
+// Fill a heap with random priorities and drain it, plus bulk heapify.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HeapBenchmark {
+
+  @Param({ "1000", "100000", "1000000" })
+  int size;
+
+  @Param({ "2", "4", "8" })
+  int arity;
+
+  private long[] priorities;
+  private Long[] boxed;
+  private DynamicArray<Long> batch;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    priorities = new long[size];
+    boxed = new Long[size];
+    batch = new DynamicArray<>(size);
+    for (int i = 0; i < size; i++) {
+      priorities[i] = random.nextLong();
+      boxed[i] = priorities[i];
+      batch.add(boxed[i]);
+    }
+  }
+
+  @Benchmark
+  public long priorityQueueAddPoll() {
+    PriorityQueue<Long> queue = new PriorityQueue<>();
+    for (Long priority : boxed)
+      queue.add(priority);
+    long sum = 0;
+    while (!queue.isEmpty())
+      sum += queue.poll();
+    return sum;
+  }
+
+  @Benchmark
+  public long daryHeapAddPoll() {
+    DaryHeap<Long> heap = new DaryHeap<>(arity, null);
+    for (Long priority : boxed)
+      heap.add(priority);
+    long sum = 0;
+    while (!heap.isEmpty())
+      sum += heap.poll();
+    return sum;
+  }
+
+  @Benchmark
+  public long longDaryHeapAddPoll() {
+    LongDaryHeap<Object> heap = new LongDaryHeap<>(arity);
+    for (long priority : priorities)
+      heap.add(priority, null);
+    long sum = 0;
+    while (!heap.isEmpty()) {
+      sum += heap.peekPriority();
+      heap.removeMin();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public DaryHeap<Long> daryHeapHeapify() {
+    return DaryHeap.heapify(batch, arity, null);
+  }
+
+  @Benchmark
+  public DaryHeap<Long> daryHeapRepeatedAdd() {
+    DaryHeap<Long> heap = new DaryHeap<>(arity, null);
+    for (Long priority : boxed)
+      heap.add(priority);
+    return heap;
+  }
+}
@@ -0,0 +1,48 @@
+package structures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import structures.LinkedLists.DoublyLinkedList;
+
+// LRU-style churn: addFirst + removeLast on a list of constant size.
+// Run with -prof gc to see the allocation rate drop to ~0 with a node pool.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NodePoolBenchmark {
+
+  private static final Integer ELEMENT = 1;
+
+  @Param({ "1000", "1000000" })
+  int size;
+
+  private DoublyLinkedList<Integer> unpooled;
+  private DoublyLinkedList<Integer> pooled;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    unpooled = new DoublyLinkedList<>();
+    pooled = new DoublyLinkedList<>(64);
+    for (int i = 0; i < size; i++) {
+      unpooled.addLast(ELEMENT);
+      pooled.addLast(ELEMENT);
+    }
+  }
+
+  @Benchmark
+  public Integer unpooledChurn() {
+    unpooled.addFirst(ELEMENT);
+    return unpooled.removeLast();
+  }
+
+  @Benchmark
+  public Integer pooledChurn() {
+    pooled.addFirst(ELEMENT);
+    return pooled.removeLast();
+  }
+}
@@ -0,0 +1,64 @@
+package structures.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import structures.DynamicArray.DynamicArray;
+import structures.LinkedLists.DoublyLinkedList;
+import structures.Parallel.ParallelOps;
+
+// Parallel folds over the project's spliterators versus ArrayList.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParallelStreamBenchmark {
+
+  @Param({ "100000", "1000000", "10000000" })
+  int size;
+
+  private DynamicArray<Integer> dynamicArray;
+  private DoublyLinkedList<Integer> doublyLinkedList;
+  private ArrayList<Integer> arrayList;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    dynamicArray = new DynamicArray<>(size);
+    doublyLinkedList = new DoublyLinkedList<>();
+    arrayList = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      dynamicArray.add(i);
+      doublyLinkedList.addLast(i);
+      arrayList.add(i);
+    }
+  }
+
+  @Benchmark
+  public long dynamicArraySequentialSum() {
+    return dynamicArray.stream().mapToLong(Integer::longValue).sum();
+  }
+
+  @Benchmark
+  public long dynamicArrayParallelSum() {
+    return dynamicArray.parallelStream().mapToLong(Integer::longValue).sum();
+  }
+
+  @Benchmark
+  public long dynamicArrayParallelReduce() {
+    return ParallelOps.parallelReduce(dynamicArray, 0L, (acc, x) -> acc + x, Long::sum);
+  }
+
+  @Benchmark
+  public long doublyLinkedListParallelSum() {
+    return doublyLinkedList.parallelStream().mapToLong(Integer::longValue).sum();
+  }
+
+  @Benchmark
+  public long arrayListParallelSum() {
+    return arrayList.parallelStream().mapToLong(Integer::longValue).sum();
+  }
+}
@@ -0,0 +1,68 @@
+package structures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import structures.DynamicArray.DynamicArray;
+import structures.DynamicArray.PersistentVector;
+
+// Read-mostly sharing: publishing a new version after a single-element update
+// (path copy vs copy-on-write of the whole array), and the cost of reads.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PersistentVectorBenchmark {
+
+  @Param({ "1000", "100000", "1000000" })
+  int size;
+
+  private DynamicArray<Integer> array;
+  private PersistentVector<Integer> vector;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    array = new DynamicArray<>(size);
+    for (int i = 0; i < size; i++)
+      array.add(i);
+    vector = PersistentVector.from(array);
+  }
+
+  @Benchmark
+  public PersistentVector<Integer> persistentVectorSet() {
+    int index = next++ % size;
+    vector = vector.set(index, index);
+    return vector;
+  }
+
+  @Benchmark
+  public DynamicArray<Integer> dynamicArraySnapshotSet() {
+    int index = next++ % size;
+    DynamicArray<Integer> published = array.snapshot();
+    array.set(index, index);
+    return published;
+  }
+
+  @Benchmark
+  public void persistentVectorScan(Blackhole bh) {
+    for (Integer value : vector)
+      bh.consume(value);
+  }
+
+  @Benchmark
+  public void dynamicArrayScan(Blackhole bh) {
+    for (Integer value : array)
+      bh.consume(value);
+  }
+
+  @Benchmark
+  public void persistentVectorGet(Blackhole bh) {
+    for (int i = 0; i < size; i++)
+      bh.consume(vector.get(i));
+  }
+}
@@ -0,0 +1,58 @@
+package structures.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import structures.LinkedLists.DoublyLinkedList;
+import structures.LinkedLists.IndexedSkipList;
+
+// Insert and remove at the middle position of a list of constant size.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PositionalEditBenchmark {
+
+  private static final Integer ELEMENT = 1;
+
+  @Param({ "1000", "100000", "1000000" })
+  int size;
+
+  private IndexedSkipList<Integer> indexedSkipList;
+  private DoublyLinkedList<Integer> doublyLinkedList;
+  private ArrayList<Integer> arrayList;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    indexedSkipList = new IndexedSkipList<>();
+    doublyLinkedList = new DoublyLinkedList<>();
+    arrayList = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      indexedSkipList.addLast(i);
+      doublyLinkedList.addLast(i);
+      arrayList.add(i);
+    }
+  }
+
+  @Benchmark
+  public Integer indexedSkipListMiddleEdit() {
+    indexedSkipList.addAt(size / 2, ELEMENT);
+    return indexedSkipList.removeAt(size / 3);
+  }
+
+  @Benchmark
+  public Integer doublyLinkedListMiddleEdit() {
+    doublyLinkedList.addAt(size / 2, ELEMENT);
+    return doublyLinkedList.removeAt(size / 3);
+  }
+
+  @Benchmark
+  public Integer arrayListMiddleEdit() {
+    arrayList.add(size / 2, ELEMENT);
+    return arrayList.remove(size / 3);
+  }
+}
@@ -0,0 +1,95 @@
+package structures.benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import structures.Queue.Queue;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class QueueBenchmark {
+
+  @Param({ "1000", "100000", "1000000", "10000000" })
+  int size;
+
+  private Queue<Integer> queue;
+  private ArrayDeque<Integer> arrayDeque;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    queue = new Queue<>();
+    arrayDeque = new ArrayDeque<>();
+    for (int i = 0; i < size; i++) {
+      queue.enqueue(i);
+      arrayDeque.addLast(i);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Filled {
+    Queue<Integer> queue;
+    ArrayDeque<Integer> arrayDeque;
+
+    @Setup(Level.Invocation)
+    public void fill(QueueBenchmark benchmark) {
+      queue = new Queue<>();
+      arrayDeque = new ArrayDeque<>();
+      for (int i = 0; i < benchmark.size; i++) {
+        queue.enqueue(i);
+        arrayDeque.addLast(i);
+      }
+    }
+  }
+
+  // ---------------- append (enqueue) ----------------
+  @Benchmark
+  public Queue<Integer> queueEnqueue() {
+    Queue<Integer> queue = new Queue<>();
+    for (int i = 0; i < size; i++)
+      queue.enqueue(i);
+    return queue;
+  }
+
+  @Benchmark
+  public ArrayDeque<Integer> arrayDequeEnqueue() {
+    ArrayDeque<Integer> queue = new ArrayDeque<>();
+    for (int i = 0; i < size; i++)
+      queue.addLast(i);
+    return queue;
+  }
+
+  // ---------------- head removal (dequeue) ----------------
+  @Benchmark
+  public void queueDequeue(Filled state, Blackhole bh) {
+    Queue<Integer> queue = state.queue;
+    while (!queue.isEmpty())
+      bh.consume(queue.dequeue());
+  }
+
+  @Benchmark
+  public void arrayDequeDequeue(Filled state, Blackhole bh) {
+    ArrayDeque<Integer> queue = state.arrayDeque;
+    while (!queue.isEmpty())
+      bh.consume(queue.pollFirst());
+  }
+
+  // ---------------- iteration ----------------
+  @Benchmark
+  public void queueIterate(Blackhole bh) {
+    for (Integer value : queue)
+      bh.consume(value);
+  }
+
+  @Benchmark
+  public void arrayDequeIterate(Blackhole bh) {
+    for (Integer value : arrayDeque)
+      bh.consume(value);
+  }
+}
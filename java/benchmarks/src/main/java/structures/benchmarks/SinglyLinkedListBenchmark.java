@@ -0,0 +1,95 @@
+package structures.benchmarks;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import structures.LinkedLists.SinglyLinkedList;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SinglyLinkedListBenchmark {
+
+  @Param({ "1000", "100000", "1000000", "10000000" })
+  int size;
+
+  private SinglyLinkedList<Integer> singlyLinkedList;
+  private LinkedList<Integer> linkedList;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    singlyLinkedList = new SinglyLinkedList<>();
+    linkedList = new LinkedList<>();
+    for (int i = 0; i < size; i++) {
+      singlyLinkedList.addLast(i);
+      linkedList.addLast(i);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Filled {
+    SinglyLinkedList<Integer> singlyLinkedList;
+    LinkedList<Integer> linkedList;
+
+    @Setup(Level.Invocation)
+    public void fill(SinglyLinkedListBenchmark benchmark) {
+      singlyLinkedList = new SinglyLinkedList<>();
+      linkedList = new LinkedList<>();
+      for (int i = 0; i < benchmark.size; i++) {
+        singlyLinkedList.addLast(i);
+        linkedList.addLast(i);
+      }
+    }
+  }
+
+  // ---------------- append ----------------
+  @Benchmark
+  public SinglyLinkedList<Integer> singlyLinkedListAppend() {
+    SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
+    for (int i = 0; i < size; i++)
+      list.addLast(i);
+    return list;
+  }
+
+  @Benchmark
+  public LinkedList<Integer> linkedListAppend() {
+    LinkedList<Integer> list = new LinkedList<>();
+    for (int i = 0; i < size; i++)
+      list.addLast(i);
+    return list;
+  }
+
+  // ---------------- head removal ----------------
+  @Benchmark
+  public void singlyLinkedListRemoveHead(Filled state, Blackhole bh) {
+    SinglyLinkedList<Integer> list = state.singlyLinkedList;
+    while (!list.isEmpty())
+      bh.consume(list.removeFirst());
+  }
+
+  @Benchmark
+  public void linkedListRemoveHead(Filled state, Blackhole bh) {
+    LinkedList<Integer> list = state.linkedList;
+    while (!list.isEmpty())
+      bh.consume(list.removeFirst());
+  }
+
+  // ---------------- iteration ----------------
+  @Benchmark
+  public void singlyLinkedListIterate(Blackhole bh) {
+    for (Integer value : singlyLinkedList)
+      bh.consume(value);
+  }
+
+  @Benchmark
+  public void linkedListIterate(Blackhole bh) {
+    for (Integer value : linkedList)
+      bh.consume(value);
+  }
+}
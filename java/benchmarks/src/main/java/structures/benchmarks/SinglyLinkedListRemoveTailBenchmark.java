@@ -0,0 +1,49 @@
+package structures.benchmarks;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import structures.LinkedLists.SinglyLinkedList;
+
+// SinglyLinkedList.removeLast has to find the predecessor of the tail, so
+// draining N elements from the tail is O(N^2). It gets its own, smaller
+// size range to keep the suite finite.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SinglyLinkedListRemoveTailBenchmark {
+
+  @Param({ "1000", "10000", "100000" })
+  int size;
+
+  private SinglyLinkedList<Integer> singlyLinkedList;
+  private LinkedList<Integer> linkedList;
+
+  @Setup(Level.Invocation)
+  public void fill() {
+    singlyLinkedList = new SinglyLinkedList<>();
+    linkedList = new LinkedList<>();
+    for (int i = 0; i < size; i++) {
+      singlyLinkedList.addLast(i);
+      linkedList.addLast(i);
+    }
+  }
+
+  @Benchmark
+  public void singlyLinkedListRemoveTail(Blackhole bh) {
+    while (!singlyLinkedList.isEmpty())
+      bh.consume(singlyLinkedList.removeLast());
+  }
+
+  @Benchmark
+  public void linkedListRemoveTail(Blackhole bh) {
+    while (!linkedList.isEmpty())
+      bh.consume(linkedList.removeLast());
+  }
+}
@@ -0,0 +1,81 @@
+package structures.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import structures.DynamicArray.DynamicArray;
+import structures.DynamicArray.IntDynamicArray;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SortBenchmark {
+
+  @Param({ "1000", "100000", "1000000", "10000000" })
+  int size;
+
+  private int[] source;
+  private DynamicArray<Integer> dynamicArray;
+  private ArrayList<Integer> arrayList;
+  private IntDynamicArray intDynamicArray;
+  private int[] intArray;
+
+  @Setup(Level.Trial)
+  public void generate() {
+    Random random = new Random(42);
+    source = new int[size];
+    for (int i = 0; i < size; i++)
+      source[i] = random.nextInt();
+  }
+
+  @Setup(Level.Invocation)
+  public void fill() {
+    dynamicArray = new DynamicArray<>(size);
+    arrayList = new ArrayList<>(size);
+    intDynamicArray = new IntDynamicArray(size);
+    for (int value : source) {
+      dynamicArray.add(value);
+      arrayList.add(value);
+    }
+    intDynamicArray.addAll(source);
+    intArray = source.clone();
+  }
+
+  @Benchmark
+  public DynamicArray<Integer> dynamicArraySort() {
+    dynamicArray.sort(Comparator.naturalOrder());
+    return dynamicArray;
+  }
+
+  @Benchmark
+  public DynamicArray<Integer> dynamicArrayParallelSort() {
+    dynamicArray.parallelSort(Comparator.naturalOrder());
+    return dynamicArray;
+  }
+
+  @Benchmark
+  public ArrayList<Integer> arrayListSort() {
+    arrayList.sort(Comparator.naturalOrder());
+    return arrayList;
+  }
+
+  @Benchmark
+  public IntDynamicArray intDynamicArrayRadixSort() {
+    intDynamicArray.sort();
+    return intDynamicArray;
+  }
+
+  @Benchmark
+  public int[] intArraySort() {
+    Arrays.sort(intArray);
+    return intArray;
+  }
+}
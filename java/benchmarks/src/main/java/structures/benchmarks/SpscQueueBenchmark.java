@@ -0,0 +1,84 @@
+package structures.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import structures.Queue.ConcurrentArrayQueue;
+import structures.Queue.SpscArrayQueue;
+
+// Exactly one producer and one consumer per queue; do not override -tg here.
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SpscQueueBenchmark {
+
+  private static final Integer ELEMENT = 1;
+  private static final int BATCH = 64;
+
+  @Param({ "1024", "65536" })
+  int capacity;
+
+  private SpscArrayQueue<Integer> spscArrayQueue;
+  private ConcurrentArrayQueue<Integer> concurrentArrayQueue;
+  private final Supplier<Integer> supplier = () -> ELEMENT;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    spscArrayQueue = new SpscArrayQueue<>(capacity);
+    concurrentArrayQueue = new ConcurrentArrayQueue<>(capacity);
+  }
+
+  // ---------------- single element ----------------
+  @Benchmark
+  @Group("spscArrayQueue")
+  @GroupThreads(1)
+  public boolean spscOffer() {
+    return spscArrayQueue.offer(ELEMENT);
+  }
+
+  @Benchmark
+  @Group("spscArrayQueue")
+  @GroupThreads(1)
+  public Integer spscPoll() {
+    return spscArrayQueue.poll();
+  }
+
+  // ---------------- batched fill/drain ----------------
+  // One op is one fill/drain call of up to BATCH elements.
+  @Benchmark
+  @Group("spscArrayQueueBatched")
+  @GroupThreads(1)
+  public int spscFill() {
+    return spscArrayQueue.fill(supplier, BATCH);
+  }
+
+  @Benchmark
+  @Group("spscArrayQueueBatched")
+  @GroupThreads(1)
+  public int spscDrain(Blackhole bh) {
+    Consumer<Integer> sink = bh::consume;
+    return spscArrayQueue.drain(sink, BATCH);
+  }
+
+  // ---------------- MPMC queue with one thread per side ----------------
+  @Benchmark
+  @Group("concurrentArrayQueue")
+  @GroupThreads(1)
+  public boolean concurrentOffer() {
+    return concurrentArrayQueue.offer(ELEMENT);
+  }
+
+  @Benchmark
+  @Group("concurrentArrayQueue")
+  @GroupThreads(1)
+  public Integer concurrentPoll() {
+    return concurrentArrayQueue.poll();
+  }
+}
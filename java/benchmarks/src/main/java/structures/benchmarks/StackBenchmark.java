@@ -0,0 +1,95 @@
+package structures.benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import structures.Stack.Stack;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StackBenchmark {
+
+  @Param({ "1000", "100000", "1000000", "10000000" })
+  int size;
+
+  private Stack<Integer> stack;
+  private ArrayDeque<Integer> arrayDeque;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    stack = new Stack<>();
+    arrayDeque = new ArrayDeque<>();
+    for (int i = 0; i < size; i++) {
+      stack.push(i);
+      arrayDeque.push(i);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Filled {
+    Stack<Integer> stack;
+    ArrayDeque<Integer> arrayDeque;
+
+    @Setup(Level.Invocation)
+    public void fill(StackBenchmark benchmark) {
+      stack = new Stack<>();
+      arrayDeque = new ArrayDeque<>();
+      for (int i = 0; i < benchmark.size; i++) {
+        stack.push(i);
+        arrayDeque.push(i);
+      }
+    }
+  }
+
+  // ---------------- append (push) ----------------
+  @Benchmark
+  public Stack<Integer> stackPush() {
+    Stack<Integer> s = new Stack<>();
+    for (int i = 0; i < size; i++)
+      s.push(i);
+    return s;
+  }
+
+  @Benchmark
+  public ArrayDeque<Integer> arrayDequePush() {
+    ArrayDeque<Integer> s = new ArrayDeque<>();
+    for (int i = 0; i < size; i++)
+      s.push(i);
+    return s;
+  }
+
+  // ---------------- tail removal (pop) ----------------
+  @Benchmark
+  public void stackPop(Filled state, Blackhole bh) {
+    Stack<Integer> s = state.stack;
+    while (!s.isEmpty())
+      bh.consume(s.pop());
+  }
+
+  @Benchmark
+  public void arrayDequePop(Filled state, Blackhole bh) {
+    ArrayDeque<Integer> s = state.arrayDeque;
+    while (!s.isEmpty())
+      bh.consume(s.pop());
+  }
+
+  // ---------------- iteration ----------------
+  @Benchmark
+  public void stackIterate(Blackhole bh) {
+    for (Integer value : stack)
+      bh.consume(value);
+  }
+
+  @Benchmark
+  public void arrayDequeIterate(Blackhole bh) {
+    for (Integer value : arrayDeque)
+      bh.consume(value);
+  }
+}
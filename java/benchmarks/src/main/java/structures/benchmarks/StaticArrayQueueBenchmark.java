@@ -0,0 +1,95 @@
+package structures.benchmarks;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import structures.Queue.StaticArrayQueue;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StaticArrayQueueBenchmark {
+
+  @Param({ "1000", "100000", "1000000", "10000000" })
+  int size;
+
+  private StaticArrayQueue<Integer> staticArrayQueue;
+  private ArrayDeque<Integer> arrayDeque;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    staticArrayQueue = new StaticArrayQueue<>(size);
+    arrayDeque = new ArrayDeque<>(size);
+    for (int i = 0; i < size; i++) {
+      staticArrayQueue.enqueue(i);
+      arrayDeque.addLast(i);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Filled {
+    StaticArrayQueue<Integer> staticArrayQueue;
+    ArrayDeque<Integer> arrayDeque;
+
+    @Setup(Level.Invocation)
+    public void fill(StaticArrayQueueBenchmark benchmark) {
+      staticArrayQueue = new StaticArrayQueue<>(benchmark.size);
+      arrayDeque = new ArrayDeque<>(benchmark.size);
+      for (int i = 0; i < benchmark.size; i++) {
+        staticArrayQueue.enqueue(i);
+        arrayDeque.addLast(i);
+      }
+    }
+  }
+
+  // ---------------- append (enqueue) ----------------
+  @Benchmark
+  public StaticArrayQueue<Integer> staticArrayQueueEnqueue() {
+    StaticArrayQueue<Integer> queue = new StaticArrayQueue<>(size);
+    for (int i = 0; i < size; i++)
+      queue.enqueue(i);
+    return queue;
+  }
+
+  @Benchmark
+  public ArrayDeque<Integer> arrayDequeEnqueue() {
+    ArrayDeque<Integer> queue = new ArrayDeque<>(size);
+    for (int i = 0; i < size; i++)
+      queue.addLast(i);
+    return queue;
+  }
+
+  // ---------------- head removal (dequeue) ----------------
+  @Benchmark
+  public void staticArrayQueueDequeue(Filled state, Blackhole bh) {
+    StaticArrayQueue<Integer> queue = state.staticArrayQueue;
+    while (!queue.isEmpty())
+      bh.consume(queue.dequeue());
+  }
+
+  @Benchmark
+  public void arrayDequeDequeue(Filled state, Blackhole bh) {
+    ArrayDeque<Integer> queue = state.arrayDeque;
+    while (!queue.isEmpty())
+      bh.consume(queue.pollFirst());
+  }
+
+  // ---------------- iteration ----------------
+  @Benchmark
+  public void staticArrayQueueIterate(Blackhole bh) {
+    for (Integer value : staticArrayQueue)
+      bh.consume(value);
+  }
+
+  @Benchmark
+  public void arrayDequeIterate(Blackhole bh) {
+    for (Integer value : arrayDeque)
+      bh.consume(value);
+  }
+}
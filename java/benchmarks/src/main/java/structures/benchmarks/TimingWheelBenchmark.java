@@ -0,0 +1,80 @@
+package structures.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import structures.Queue.LongDaryHeap;
+import structures.Queue.TimingWheel;
+
+// Request deadlines: schedule many short timeouts and cancel almost all of
+// them before they fire, timing wheel vs. a d-ary heap keyed by deadline.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TimingWheelBenchmark {
+
+  private static final Runnable TASK = () -> { };
+
+  @Param({ "1000", "100000", "1000000" })
+  int size;
+
+  private long[] delays;
+  private TimingWheel.Timeout[] timeouts;
+  private long[] handles;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Random random = new Random(42);
+    delays = new long[size];
+    for (int i = 0; i < size; i++)
+      delays[i] = 1 + random.nextInt(30_000); // до 30 с при тіку 1 мс
+    timeouts = new TimingWheel.Timeout[size];
+    handles = new long[size];
+  }
+
+  @Benchmark
+  public int timingWheelScheduleCancel() {
+    TimingWheel wheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 256, 4);
+    for (int i = 0; i < size; i++)
+      timeouts[i] = wheel.schedule(TASK, delays[i], TimeUnit.MILLISECONDS);
+    for (int i = 0; i < size; i++)
+      wheel.cancel(timeouts[i]);
+    return wheel.size();
+  }
+
+  @Benchmark
+  public int longDaryHeapScheduleCancel() {
+    LongDaryHeap<Runnable> heap = new LongDaryHeap<>();
+    for (int i = 0; i < size; i++)
+      handles[i] = heap.add(delays[i], TASK);
+    for (int i = 0; i < size; i++)
+      heap.remove(handles[i]);
+    return heap.size();
+  }
+
+  @Benchmark
+  public int timingWheelExpireAll() {
+    TimingWheel wheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 256, 4);
+    for (int i = 0; i < size; i++)
+      wheel.schedule(TASK, delays[i], TimeUnit.MILLISECONDS);
+    return wheel.advance(30_000);
+  }
+
+  @Benchmark
+  public int longDaryHeapExpireAll() {
+    LongDaryHeap<Runnable> heap = new LongDaryHeap<>();
+    for (int i = 0; i < size; i++)
+      heap.add(delays[i], TASK);
+    int fired = 0;
+    while (!heap.isEmpty()) {
+      heap.removeMin().run();
+      fired++;
+    }
+    return fired;
+  }
+}
@@ -0,0 +1,77 @@
+package structures.benchmarks;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import structures.LinkedLists.DoublyLinkedList;
+import structures.LinkedLists.UnrolledLinkedList;
+
+// Sequential scans (iteration and a failing indexOf) over node-per-element
+// lists versus the chunked UnrolledLinkedList.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UnrolledLinkedListBenchmark {
+
+  private static final Integer MISSING = -1;
+
+  @Param({ "1000", "100000", "1000000", "10000000" })
+  int size;
+
+  private UnrolledLinkedList<Integer> unrolledLinkedList;
+  private DoublyLinkedList<Integer> doublyLinkedList;
+  private LinkedList<Integer> linkedList;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    unrolledLinkedList = new UnrolledLinkedList<>();
+    doublyLinkedList = new DoublyLinkedList<>();
+    linkedList = new LinkedList<>();
+    for (int i = 0; i < size; i++) {
+      unrolledLinkedList.addLast(i);
+      doublyLinkedList.addLast(i);
+      linkedList.addLast(i);
+    }
+  }
+
+  // ---------------- iteration ----------------
+  @Benchmark
+  public void unrolledLinkedListIterate(Blackhole bh) {
+    for (Integer value : unrolledLinkedList)
+      bh.consume(value);
+  }
+
+  @Benchmark
+  public void doublyLinkedListIterate(Blackhole bh) {
+    for (Integer value : doublyLinkedList)
+      bh.consume(value);
+  }
+
+  @Benchmark
+  public void linkedListIterate(Blackhole bh) {
+    for (Integer value : linkedList)
+      bh.consume(value);
+  }
+
+  // ---------------- indexOf (full scan) ----------------
+  @Benchmark
+  public int unrolledLinkedListIndexOf() {
+    return unrolledLinkedList.indexOf(MISSING);
+  }
+
+  @Benchmark
+  public int doublyLinkedListIndexOf() {
+    return doublyLinkedList.indexOf(MISSING);
+  }
+
+  @Benchmark
+  public int linkedListIndexOf() {
+    return linkedList.indexOf(MISSING);
+  }
+}
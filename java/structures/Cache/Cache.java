@@ -0,0 +1,228 @@
+package structures.Cache;
+
+import java.util.HashMap;
+
+// Обмежений кеш з O(1) get/put/remove: HashMap як індекс ключів і
+// змінювана політика витіснення (LruPolicy, LfuPolicy, TinyLfuPolicy), що
+// побудована на DoublyLinkedList. Місткість задається сумарною вагою записів.
+public class Cache<K, V> {
+
+  @FunctionalInterface
+  public interface Weigher<K, V> {
+    long weigh(K key, V value);
+  }
+
+  @FunctionalInterface
+  public interface EvictionListener<K, V> {
+    void onEviction(K key, V value);
+  }
+
+  private static class Entry<V> {
+    V value;
+    long weight;
+
+    Entry(V value, long weight) {
+      this.value = value;
+      this.weight = weight;
+    }
+  }
+
+  private final HashMap<K, Entry<V>> map = new HashMap<>();
+  private final long maximumWeight;
+  private final EvictionPolicy<K> policy;
+  private final Weigher<? super K, ? super V> weigher;
+  private final EvictionListener<? super K, ? super V> listener;
+  private long weight = 0;
+
+  private long hits = 0;
+  private long misses = 0;
+  private long evictions = 0;
+  private long rejections = 0;
+
+  public Cache(long maximumSize, EvictionPolicy<K> policy) {
+    this(maximumSize, policy, (k, v) -> 1, (k, v) -> {
+    });
+  }
+
+  public Cache(long maximumWeight, EvictionPolicy<K> policy, Weigher<? super K, ? super V> weigher,
+      EvictionListener<? super K, ? super V> listener) {
+    if (maximumWeight <= 0)
+      throw new IllegalArgumentException("Illegal maximum weight: " + maximumWeight);
+    if (policy == null || weigher == null || listener == null)
+      throw new IllegalArgumentException("Policy, weigher and listener must not be null");
+    this.maximumWeight = maximumWeight;
+    this.policy = policy;
+    this.weigher = weigher;
+    this.listener = listener;
+  }
+
+  public V get(K key) {
+    Entry<V> entry = map.get(key);
+    if (entry == null) {
+      misses++;
+      policy.recordMiss(key);
+      return null;
+    }
+    hits++;
+    policy.recordAccess(key);
+    return entry.value;
+  }
+
+  // Повертає false, якщо запис не прийнято: він важчий за весь кеш або
+  // політика відмовила йому в допуску.
+  public boolean put(K key, V value) {
+    if (key == null || value == null)
+      throw new NullPointerException();
+    long w = weigher.weigh(key, value);
+    if (w < 0)
+      throw new IllegalArgumentException("Negative weight: " + w);
+
+    Entry<V> entry = map.get(key);
+    if (entry != null) {
+      if (w > maximumWeight) {
+        remove(key);
+        rejections++;
+        return false;
+      }
+      weight += w - entry.weight;
+      entry.value = value;
+      entry.weight = w;
+      policy.recordAccess(key);
+      evictUntil(maximumWeight, key);
+      return true;
+    }
+
+    if (w > maximumWeight) {
+      rejections++;
+      return false;
+    }
+    // Допуск вирішується один раз, до витіснення: відхилений кандидат не
+    // повинен забрати з собою жодної жертви.
+    if (weight + w > maximumWeight && !policy.admit(key, policy.victim())) {
+      rejections++;
+      return false;
+    }
+    evictUntil(maximumWeight - w, null);
+    map.put(key, new Entry<>(value, w));
+    weight += w;
+    policy.recordInsert(key);
+    return true;
+  }
+
+  public V remove(K key) {
+    Entry<V> entry = map.remove(key);
+    if (entry == null)
+      return null;
+    weight -= entry.weight;
+    policy.recordRemoval(key);
+    return entry.value;
+  }
+
+  public boolean containsKey(K key) {
+    return map.containsKey(key);
+  }
+
+  public void clear() {
+    for (K key : map.keySet())
+      policy.recordRemoval(key);
+    map.clear();
+    weight = 0;
+  }
+
+  public int size() {
+    return map.size();
+  }
+
+  public boolean isEmpty() {
+    return map.isEmpty();
+  }
+
+  public long weight() {
+    return weight;
+  }
+
+  public long maximumWeight() {
+    return maximumWeight;
+  }
+
+  // ---------------- statistics ----------------
+  public long hitCount() {
+    return hits;
+  }
+
+  public long missCount() {
+    return misses;
+  }
+
+  public long evictionCount() {
+    return evictions;
+  }
+
+  public long rejectionCount() {
+    return rejections;
+  }
+
+  public double hitRate() {
+    long requests = hits + misses;
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+
+  public void resetStats() {
+    hits = misses = evictions = rejections = 0;
+  }
+
+  // Витісняє записи, поки вага не стане <= limit; keep (щойно оновлений
+  // запис) не витісняється.
+  private void evictUntil(long limit, K keep) {
+    while (weight > limit) {
+      K victim = policy.victim(keep);
+      if (victim == null)
+        return;
+      evict(victim);
+    }
+  }
+
+  private void evict(K victim) {
+    Entry<V> entry = map.remove(victim);
+    weight -= entry.weight;
+    policy.recordRemoval(victim);
+    evictions++;
+    listener.onEviction(victim, entry.value);
+  }
+
+  @Override
+  public String toString() {
+    return "Cache[size=" + size() + ", weight=" + weight + "/" + maximumWeight + ", hits=" + hits
+        + ", misses=" + misses + ", evictions=" + evictions + "]";
+  }
+
+  public static void main(String[] args) {
+    Cache<String, Integer> lru = new Cache<>(2, new LruPolicy<>());
+    lru.put("a", 1);
+    lru.put("b", 2);
+    lru.get("a");
+    lru.put("c", 3); // витісняє "b"
+    System.out.println("LRU contains b? " + lru.containsKey("b")); // false
+
+    Cache<String, Integer> lfu = new Cache<>(2, new LfuPolicy<>(), (k, v) -> 1,
+        (k, v) -> System.out.println("Evicted " + k + "=" + v));
+    lfu.put("a", 1);
+    lfu.put("b", 2);
+    lfu.get("a");
+    lfu.get("a");
+    lfu.get("b");
+    lfu.put("c", 3); // Evicted b=2
+    System.out.println(lfu); // Cache[size=2, weight=2/2, hits=3, misses=0, evictions=1]
+
+    Cache<String, String> weighted = new Cache<>(10, new TinyLfuPolicy<>(100), (k, v) -> v.length(),
+        (k, v) -> {
+        });
+    weighted.put("hot", "12345");
+    for (int i = 0; i < 5; i++)
+      weighted.get("hot");
+    weighted.put("warm", "1234");
+    weighted.put("cold", "123"); // сканування не витісняє популярний "hot"
+    System.out.println("hot kept? " + weighted.containsKey("hot") + ", cold admitted? "
+        + weighted.containsKey("cold")); // true, false
+  }
+}
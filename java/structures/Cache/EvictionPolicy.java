@@ -0,0 +1,31 @@
+package structures.Cache;
+
+// Політика витіснення для Cache. Кеш повідомляє політику про кожну подію з
+// ключем, а політика за O(1) називає наступну жертву.
+public interface EvictionPolicy<K> {
+
+  void recordInsert(K key);
+
+  void recordAccess(K key);
+
+  void recordRemoval(K key);
+
+  // Промах get: ключа в кеші немає. Потрібно політикам, що рахують частоту
+  // звернень до всіх ключів, а не лише до збережених.
+  default void recordMiss(K key) {
+  }
+
+  // Ключ, який буде витіснено наступним, або null, якщо кеш порожній.
+  default K victim() {
+    return victim(null);
+  }
+
+  // Наступна жертва, крім ключа exclude (щойно оновленого запису), або null,
+  // якщо інших ключів немає. Не змінює стан політики.
+  K victim(K exclude);
+
+  // Чи варто витіснити victim заради нового candidate.
+  default boolean admit(K candidate, K victim) {
+    return true;
+  }
+}
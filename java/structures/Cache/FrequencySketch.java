@@ -0,0 +1,74 @@
+package structures.Cache;
+
+// Count-min sketch з 4-бітними лічильниками для оцінки частоти ключів:
+// по 16 лічильників у кожному long, тобто пів байта на лічильник.
+// Коли кількість подій досягає 10 * ширина таблиці, всі лічильники діляться
+// навпіл (старіння), щоб давня популярність поступово забувалась.
+final class FrequencySketch {
+
+  private static final int MAX_COUNT = 15;
+  private static final int[] SEEDS = { 0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F };
+
+  private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+
+  private final long[] table;
+  private final int mask; // над індексами лічильників, не слів
+  private final int resetThreshold;
+  private int additions = 0;
+
+  FrequencySketch(int expectedKeys) {
+    int width = Integer.highestOneBit(Math.max(expectedKeys, 16) - 1) << 1;
+    table = new long[width >>> 4];
+    mask = width - 1;
+    resetThreshold = 10 * width;
+  }
+
+  int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int min = MAX_COUNT;
+    for (int seed : SEEDS)
+      min = Math.min(min, count(index(hash, seed)));
+    return min;
+  }
+
+  void increment(Object key) {
+    int hash = spread(key.hashCode());
+    boolean added = false;
+    for (int seed : SEEDS) {
+      int i = index(hash, seed);
+      if (count(i) < MAX_COUNT) {
+        table[i >>> 4] += 1L << shift(i);
+        added = true;
+      }
+    }
+    if (added && ++additions >= resetThreshold)
+      reset();
+  }
+
+  private void reset() {
+    // Усі 16 лічильників слова діляться навпіл одним зсувом; маска прибирає
+    // біт, що перетік із сусіднього лічильника.
+    for (int i = 0; i < table.length; i++)
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    additions /= 2;
+  }
+
+  private int count(int i) {
+    return (int) (table[i >>> 4] >>> shift(i)) & MAX_COUNT;
+  }
+
+  private static int shift(int i) {
+    return (i & 15) << 2;
+  }
+
+  private int index(int hash, int seed) {
+    int h = (hash ^ seed) * 0x9E3779B9;
+    return (h ^ (h >>> 16)) & mask;
+  }
+
+  private static int spread(int h) {
+    h ^= h >>> 16;
+    h *= 0x45D9F3B;
+    return h ^ (h >>> 16);
+  }
+}
@@ -0,0 +1,101 @@
+package structures.Cache;
+
+import java.util.HashMap;
+
+import structures.LinkedLists.DoublyLinkedList;
+
+// Least Frequently Used за O(1): для кожної частоти окремий DoublyLinkedList
+// ключів (усередині - від найстарішого до найсвіжішого) і мінімальна частота
+// серед збережених ключів. Жертва - найстаріший ключ з мінімальною частотою.
+public class LfuPolicy<K> implements EvictionPolicy<K> {
+
+  private static class Slot<K> {
+    int frequency;
+    DoublyLinkedList.Handle<K> handle;
+  }
+
+  private final HashMap<K, Slot<K>> slots = new HashMap<>();
+  private final HashMap<Integer, DoublyLinkedList<K>> buckets = new HashMap<>();
+  private int minFrequency = 0;
+
+  @Override
+  public void recordInsert(K key) {
+    Slot<K> slot = new Slot<>();
+    slot.frequency = 1;
+    slot.handle = bucket(1).addLastHandle(key);
+    slots.put(key, slot);
+    minFrequency = 1;
+  }
+
+  @Override
+  public void recordAccess(K key) {
+    Slot<K> slot = slots.get(key);
+    if (slot == null || slot.frequency == Integer.MAX_VALUE)
+      return;
+    int frequency = slot.frequency;
+    unlink(frequency, slot.handle);
+    if (frequency == minFrequency && !buckets.containsKey(frequency))
+      minFrequency = frequency + 1;
+    slot.frequency = frequency + 1;
+    slot.handle = bucket(frequency + 1).addLastHandle(key);
+  }
+
+  @Override
+  public void recordRemoval(K key) {
+    Slot<K> slot = slots.remove(key);
+    if (slot == null)
+      return;
+    unlink(slot.frequency, slot.handle);
+    if (slots.isEmpty())
+      minFrequency = 0;
+    else if (slot.frequency == minFrequency && !buckets.containsKey(minFrequency))
+      minFrequency = lowestFrequency();
+  }
+
+  @Override
+  public K victim(K exclude) {
+    if (slots.isEmpty())
+      return null;
+    for (K key : buckets.get(minFrequency)) {
+      if (!key.equals(exclude))
+        return key;
+    }
+    // У мінімальному кошику лише exclude: жертва з наступної частоти.
+    int next = Integer.MAX_VALUE;
+    for (int frequency : buckets.keySet()) {
+      if (frequency > minFrequency)
+        next = Math.min(next, frequency);
+    }
+    return next == Integer.MAX_VALUE ? null : buckets.get(next).getFirst();
+  }
+
+  public int frequency(K key) {
+    Slot<K> slot = slots.get(key);
+    return slot == null ? 0 : slot.frequency;
+  }
+
+  private DoublyLinkedList<K> bucket(int frequency) {
+    DoublyLinkedList<K> bucket = buckets.get(frequency);
+    if (bucket == null) {
+      bucket = new DoublyLinkedList<>();
+      buckets.put(frequency, bucket);
+    }
+    return bucket;
+  }
+
+  private void unlink(int frequency, DoublyLinkedList.Handle<K> handle) {
+    DoublyLinkedList<K> bucket = buckets.get(frequency);
+    bucket.remove(handle);
+    if (bucket.isEmpty())
+      buckets.remove(frequency);
+  }
+
+  // Довільне видалення з мінімального кошика - рідкісний випадок (remove()
+  // з кешу, а не витіснення); тоді шукаємо новий мінімум серед кошиків.
+  private int lowestFrequency() {
+    int lowest = Integer.MAX_VALUE;
+    for (int frequency : buckets.keySet())
+      lowest = Math.min(lowest, frequency);
+    return lowest;
+  }
+}
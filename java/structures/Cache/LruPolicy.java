@@ -0,0 +1,41 @@
+package structures.Cache;
+
+import java.util.HashMap;
+
+import structures.LinkedLists.DoublyLinkedList;
+
+// Least Recently Used: ключі в DoublyLinkedList від найстарішого до
+// найсвіжішого; звернення переносить ключ у кінець через дескриптор за O(1).
+public class LruPolicy<K> implements EvictionPolicy<K> {
+
+  private final DoublyLinkedList<K> order = new DoublyLinkedList<>();
+  private final HashMap<K, DoublyLinkedList.Handle<K>> handles = new HashMap<>();
+
+  @Override
+  public void recordInsert(K key) {
+    handles.put(key, order.addLastHandle(key));
+  }
+
+  @Override
+  public void recordAccess(K key) {
+    DoublyLinkedList.Handle<K> handle = handles.get(key);
+    if (handle != null)
+      order.moveToBack(handle);
+  }
+
+  @Override
+  public void recordRemoval(K key) {
+    DoublyLinkedList.Handle<K> handle = handles.remove(key);
+    if (handle != null)
+      order.remove(handle);
+  }
+
+  @Override
+  public K victim(K exclude) {
+    for (K key : order) {
+      if (!key.equals(exclude))
+        return key;
+    }
+    return null;
+  }
+}
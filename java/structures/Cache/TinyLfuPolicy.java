@@ -0,0 +1,54 @@
+package structures.Cache;
+
+// TinyLFU: фільтр допуску поверх іншої політики (за замовчуванням LRU).
+// Частота кожного ключа, навіть відсутнього в кеші, оцінюється через
+// FrequencySketch; новий ключ витісняє жертву лише тоді, коли до нього
+// звертались не рідше. Так разові звернення не вимивають популярні ключі.
+public class TinyLfuPolicy<K> implements EvictionPolicy<K> {
+
+  private final EvictionPolicy<K> delegate;
+  private final FrequencySketch sketch;
+
+  public TinyLfuPolicy(int expectedKeys) {
+    this(expectedKeys, new LruPolicy<>());
+  }
+
+  public TinyLfuPolicy(int expectedKeys, EvictionPolicy<K> delegate) {
+    if (delegate == null)
+      throw new IllegalArgumentException("Delegate policy is null");
+    this.delegate = delegate;
+    this.sketch = new FrequencySketch(expectedKeys);
+  }
+
+  @Override
+  public void recordInsert(K key) {
+    delegate.recordInsert(key);
+  }
+
+  @Override
+  public void recordAccess(K key) {
+    sketch.increment(key);
+    delegate.recordAccess(key);
+  }
+
+  @Override
+  public void recordRemoval(K key) {
+    delegate.recordRemoval(key);
+  }
+
+  @Override
+  public void recordMiss(K key) {
+    sketch.increment(key);
+    delegate.recordMiss(key);
+  }
+
+  @Override
+  public K victim(K exclude) {
+    return delegate.victim(exclude);
+  }
+
+  @Override
+  public boolean admit(K candidate, K victim) {
+    return sketch.frequency(candidate) >= sketch.frequency(victim) && delegate.admit(candidate, victim);
+  }
+}
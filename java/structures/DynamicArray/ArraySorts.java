@@ -0,0 +1,191 @@
+package structures.DynamicArray;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Сортування для масивів пакета.
+// Об'єкти: стабільний merge sort; короткі відрізки сортуються вставками,
+// великі масиви паралельно ділить ForkJoinPool.
+// Примітиви: LSD radix sort по байтах, O(n) на кожен байт ключа.
+final class ArraySorts {
+
+    private static final int INSERTION_THRESHOLD = 32;
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    private ArraySorts() {
+    }
+
+    // ---------------- merge sort ----------------
+    static <T> void mergeSort(T[] a, int n, Comparator<? super T> c) {
+        Object[] buffer = new Object[n];
+        mergeSort(a, buffer, 0, n, c);
+    }
+
+    static <T> void parallelMergeSort(T[] a, int n, Comparator<? super T> c) {
+        if (n <= PARALLEL_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() == 1) {
+            mergeSort(a, n, c);
+            return;
+        }
+        Object[] buffer = new Object[n];
+        ForkJoinPool.commonPool().invoke(new SortTask<>(a, buffer, 0, n, c));
+    }
+
+    private static <T> void mergeSort(T[] a, Object[] buffer, int from, int to, Comparator<? super T> c) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            insertionSort(a, from, to, c);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(a, buffer, from, mid, c);
+        mergeSort(a, buffer, mid, to, c);
+        merge(a, buffer, from, mid, to, c);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void merge(T[] a, Object[] buffer, int from, int mid, int to, Comparator<? super T> c) {
+        if (c.compare(a[mid - 1], a[mid]) <= 0)
+            return; // половини вже впорядковані
+        System.arraycopy(a, from, buffer, from, mid - from);
+        int i = from, j = mid, k = from;
+        while (i < mid && j < to) {
+            if (c.compare(a[j], (T) buffer[i]) < 0)
+                a[k++] = a[j++];
+            else
+                a[k++] = (T) buffer[i++];
+        }
+        while (i < mid)
+            a[k++] = (T) buffer[i++];
+    }
+
+    private static <T> void insertionSort(T[] a, int from, int to, Comparator<? super T> c) {
+        for (int i = from + 1; i < to; i++) {
+            T x = a[i];
+            int j = i - 1;
+            while (j >= from && c.compare(a[j], x) > 0) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = x;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class SortTask<T> extends RecursiveAction {
+        private final T[] a;
+        private final Object[] buffer;
+        private final int from, to;
+        private final Comparator<? super T> c;
+
+        SortTask(T[] a, Object[] buffer, int from, int to, Comparator<? super T> c) {
+            this.a = a;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                mergeSort(a, buffer, from, to, c);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask<>(a, buffer, from, mid, c), new SortTask<>(a, buffer, mid, to, c));
+            merge(a, buffer, from, mid, to, c);
+        }
+    }
+
+    // ---------------- radix sort ----------------
+    // Знаковий біт інвертується, щоб від'ємні числа йшли перед додатними.
+    static void radixSort(int[] a, int n) {
+        if (n <= INSERTION_THRESHOLD) {
+            Arrays.sort(a, 0, n);
+            return;
+        }
+        int[] buffer = new int[n];
+        int[] src = a, dst = buffer;
+        for (int shift = 0; shift < 32; shift += 8) {
+            int[] counts = new int[257];
+            for (int i = 0; i < n; i++)
+                counts[((src[i] ^ Integer.MIN_VALUE) >>> shift & 0xFF) + 1]++;
+            if (counts[((src[0] ^ Integer.MIN_VALUE) >>> shift & 0xFF) + 1] == n)
+                continue; // усі мають однаковий байт - прохід нічого не змінить
+            for (int b = 0; b < 256; b++)
+                counts[b + 1] += counts[b];
+            for (int i = 0; i < n; i++)
+                dst[counts[(src[i] ^ Integer.MIN_VALUE) >>> shift & 0xFF]++] = src[i];
+            int[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != a)
+            System.arraycopy(src, 0, a, 0, n);
+    }
+
+    static void radixSort(long[] a, int n) {
+        if (n <= INSERTION_THRESHOLD) {
+            Arrays.sort(a, 0, n);
+            return;
+        }
+        long[] buffer = new long[n];
+        radixSortKeys(a, buffer, n);
+    }
+
+    // Порядок як у Double.compare: біти від'ємних чисел інвертуються повністю,
+    // у невід'ємних - лише знаковий; тоді порівняння long без знаку збігається
+    // з порядком double (-0.0 < 0.0, NaN у кінці). Ключ обчислюється на кожному
+    // проході, тож додаткова пам'ять - лише один буфер double[n].
+    static void radixSort(double[] a, int n) {
+        if (n <= INSERTION_THRESHOLD) {
+            Arrays.sort(a, 0, n);
+            return;
+        }
+        double[] buffer = new double[n];
+        double[] src = a, dst = buffer;
+        for (int shift = 0; shift < 64; shift += 8) {
+            int[] counts = new int[257];
+            for (int i = 0; i < n; i++)
+                counts[(int) (orderedKey(src[i]) >>> shift & 0xFF) + 1]++;
+            if (counts[(int) (orderedKey(src[0]) >>> shift & 0xFF) + 1] == n)
+                continue;
+            for (int b = 0; b < 256; b++)
+                counts[b + 1] += counts[b];
+            for (int i = 0; i < n; i++)
+                dst[counts[(int) (orderedKey(src[i]) >>> shift & 0xFF)]++] = src[i];
+            double[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != a)
+            System.arraycopy(src, 0, a, 0, n);
+    }
+
+    private static long orderedKey(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+    }
+
+    // Сортує знакові long.
+    private static void radixSortKeys(long[] a, long[] buffer, int n) {
+        long[] src = a, dst = buffer;
+        for (int shift = 0; shift < 64; shift += 8) {
+            int[] counts = new int[257];
+            for (int i = 0; i < n; i++)
+                counts[(int) ((src[i] ^ Long.MIN_VALUE) >>> shift & 0xFF) + 1]++;
+            if (counts[(int) ((src[0] ^ Long.MIN_VALUE) >>> shift & 0xFF) + 1] == n)
+                continue;
+            for (int b = 0; b < 256; b++)
+                counts[b + 1] += counts[b];
+            for (int i = 0; i < n; i++)
+                dst[counts[(int) ((src[i] ^ Long.MIN_VALUE) >>> shift & 0xFF)]++] = src[i];
+            long[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != a)
+            System.arraycopy(src, 0, a, 0, n);
+    }
+}
@@ -0,0 +1,171 @@
+package structures.DynamicArray;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+public class DoubleDynamicArray implements Iterable<Double> {
+    private double[] data;
+    private int size;
+
+    public DoubleDynamicArray() {
+        this(10);
+    }
+
+    public DoubleDynamicArray(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        data = new double[initialCapacity];
+        size = 0;
+    }
+
+    public void add(double value) {
+        ensureCapacity(size + 1);
+        data[size++] = value;
+    }
+
+    public void addAll(double[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, data, size, values.length);
+        size += values.length;
+    }
+
+    public double get(int index) {
+        checkBounds(index);
+        return data[index];
+    }
+
+    public void set(int index, double value) {
+        checkBounds(index);
+        data[index] = value;
+    }
+
+    public double removeAt(int index) {
+        checkBounds(index);
+        double removed = data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    public boolean remove(double value) {
+        int index = indexOf(value);
+        if (index == -1)
+            return false;
+        removeAt(index);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int indexOf(double value) {
+        for (int i = 0; i < size; i++) {
+            if (Double.compare(data[i], value) == 0)
+                return i;
+        }
+        return -1;
+    }
+
+    public boolean contains(double value) {
+        return indexOf(value) != -1;
+    }
+
+    public double[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    // Radix sort: O(n) на кожен байт значення, без порівнянь.
+    public void sort() {
+        ArraySorts.radixSort(data, size);
+    }
+
+    // Масив має бути відсортований. Повертає індекс value або
+    // -(точка вставки) - 1, як Arrays.binarySearch.
+    public int binarySearch(double value) {
+        return Arrays.binarySearch(data, 0, size, value);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            int newCapacity = Math.max(Math.max(data.length * 2, 10), minCapacity);
+            data = Arrays.copyOf(data, newCapacity);
+        }
+    }
+
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+        }
+    }
+
+    public void print() {
+        System.out.println(this);
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return data[index++];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(data[i]);
+            if (i < size - 1)
+                sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // ---------------- MAIN ----------------
+    public static void main(String[] args) {
+        DoubleDynamicArray array = new DoubleDynamicArray();
+
+        array.add(10.5);
+        array.add(20);
+        array.add(30);
+        array.print(); // [10.5, 20.0, 30.0]
+
+        array.addAll(new double[] { 40, 50 });
+        array.print(); // [10.5, 20.0, 30.0, 40.0, 50.0]
+
+        array.set(1, 99);
+        System.out.println("Index of 99: " + array.indexOf(99)); // 1
+
+        array.removeAt(1);
+        array.print(); // [10.5, 30.0, 40.0, 50.0]
+
+        double sum = 0;
+        PrimitiveIterator.OfDouble it = array.iterator();
+        while (it.hasNext())
+            sum += it.nextDouble();
+        System.out.println("Sum: " + sum); // 130.5
+    }
+}
@@ -1,20 +1,88 @@
 package structures.DynamicArray;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import structures.HashIndex.HashIndex;
+import structures.Parallel.IndexedSpliterator;
+
 public class DynamicArray<T> implements Iterable<T> {
     private T[] data;
     private int size;
     private int capacity;
+    private final GrowthPolicy growthPolicy;
+    private HashIndex hashIndex; // null, якщо індекс вимкнено
+    private int modCount; // структурні зміни, для fail-fast ітератора
+    private boolean shared; // data спільний зі знімком: копіюємо перед записом
+    private final boolean readOnly;
 
-    @SuppressWarnings("unchecked")
     public DynamicArray() {
-        capacity = 10;
+        this(10);
+    }
+
+    public DynamicArray(int initialCapacity) {
+        this(initialCapacity, GrowthPolicy.DOUBLING);
+    }
+
+    @SuppressWarnings("unchecked")
+    public DynamicArray(int initialCapacity, GrowthPolicy growthPolicy) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        if (growthPolicy == null)
+            throw new IllegalArgumentException("Growth policy is null");
+        this.growthPolicy = growthPolicy;
+        capacity = initialCapacity;
         size = 0;
         data = (T[]) new Object[capacity];
+        readOnly = false;
+    }
+
+    // Знімок ділить масив з оригіналом і сам ніколи не змінюється.
+    private DynamicArray(T[] data, int size, GrowthPolicy growthPolicy) {
+        this.growthPolicy = growthPolicy;
+        this.data = data;
+        this.size = size;
+        this.capacity = data.length;
+        this.readOnly = true;
     }
 
     public void add(T value) {
-        ensureCapacity();
+        prepareWrite(size + 1);
+        modCount++;
         data[size++] = value;
+        if (hashIndex != null)
+            hashIndex.add(value);
+    }
+
+    public void addAll(T[] values) {
+        prepareWrite(size + values.length);
+        modCount++;
+        System.arraycopy(values, 0, data, size, values.length);
+        size += values.length;
+        indexAll(values);
+    }
+
+    public void addAll(Collection<? extends T> values) {
+        addAll(toArray(values));
+    }
+
+    public void insertAll(int index, T[] values) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+        prepareWrite(size + values.length);
+        modCount++;
+        System.arraycopy(data, index, data, index + values.length, size - index);
+        System.arraycopy(values, 0, data, index, values.length);
+        size += values.length;
+        indexAll(values);
+    }
+
+    public void insertAll(int index, Collection<? extends T> values) {
+        insertAll(index, toArray(values));
     }
 
     public T get(int index) {
@@ -24,19 +92,42 @@ public class DynamicArray<T> implements Iterable<T> {
 
     public void set(int index, T value) {
         checkBounds(index);
+        prepareWrite(size);
+        if (hashIndex != null) {
+            hashIndex.remove(data[index]);
+            hashIndex.add(value);
+        }
         data[index] = value;
     }
 
     public T removeAt(int index) {
         checkBounds(index);
+        prepareWrite(size);
+        modCount++;
         T removed = data[index];
-        for (int i = index; i < size - 1; i++) {
-            data[i] = data[i + 1];
-        }
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
         data[--size] = null;
+        if (hashIndex != null)
+            hashIndex.remove(removed);
         return removed;
     }
 
+    // Видаляє елементи з індексами [fromIndex, toIndex) одним зсувом.
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") is out of bounds.");
+        prepareWrite(size);
+        modCount++;
+        if (hashIndex != null) {
+            for (int i = fromIndex; i < toIndex; i++)
+                hashIndex.remove(data[i]);
+        }
+        System.arraycopy(data, toIndex, data, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(data, newSize, size, null);
+        size = newSize;
+    }
+
     public boolean remove(Object obj) {
         int index = indexOf(obj);
         if (index == -1)
@@ -54,6 +145,8 @@ public class DynamicArray<T> implements Iterable<T> {
     }
 
     public int indexOf(Object obj) {
+        if (hashIndex != null && !hashIndex.contains(obj))
+            return -1;
         for (int i = 0; i < size; i++) {
             if (obj == null) {
                 if (data[i] == null)
@@ -67,21 +160,157 @@ public class DynamicArray<T> implements Iterable<T> {
     }
 
     public boolean contains(Object obj) {
+        if (hashIndex != null)
+            return hashIndex.contains(obj);
         return indexOf(obj) != -1;
     }
 
+    // Вмикає хеш-індекс: contains стає O(1), indexOf відсутнього елемента теж.
+    // Коштує додаткову пам'ять і роботу на кожній зміні масиву.
+    public void enableHashIndex() {
+        if (hashIndex != null)
+            return;
+        hashIndex = new HashIndex(size);
+        for (int i = 0; i < size; i++)
+            hashIndex.add(data[i]);
+    }
+
+    public void dropHashIndex() {
+        hashIndex = null;
+    }
+
+    public boolean hasHashIndex() {
+        return hashIndex != null;
+    }
+
+    private void indexAll(T[] values) {
+        if (hashIndex != null) {
+            for (T value : values)
+                hashIndex.add(value);
+        }
+    }
+
+    // ---------------- ordering ----------------
+    // comparator == null означає природний порядок (Comparable).
+    public void sort(Comparator<? super T> comparator) {
+        prepareWrite(size);
+        modCount++;
+        ArraySorts.mergeSort(data, size, orNatural(comparator));
+    }
+
+    public void parallelSort(Comparator<? super T> comparator) {
+        prepareWrite(size);
+        modCount++;
+        ArraySorts.parallelMergeSort(data, size, orNatural(comparator));
+    }
+
+    // Масив має бути відсортований за comparator. Повертає індекс key або
+    // -(точка вставки) - 1, як Arrays.binarySearch.
+    public int binarySearch(T key, Comparator<? super T> comparator) {
+        Comparator<? super T> c = orNatural(comparator);
+        int low = 0, high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = c.compare(data[mid], key);
+            if (cmp < 0)
+                low = mid + 1;
+            else if (cmp > 0)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -(low + 1);
+    }
+
+    // Вставка у відсортований масив зі збереженням порядку; рівні елементи
+    // додаються після наявних. Повертає індекс вставки.
+    public int insertSorted(T value, Comparator<? super T> comparator) {
+        Comparator<? super T> c = orNatural(comparator);
+        int low = 0, high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (c.compare(data[mid], value) <= 0)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        prepareWrite(size + 1);
+        modCount++;
+        System.arraycopy(data, low, data, low + 1, size - low);
+        data[low] = value;
+        size++;
+        if (hashIndex != null)
+            hashIndex.add(value);
+        return low;
+    }
+
     @SuppressWarnings("unchecked")
-    private void ensureCapacity() {
-        if (size == capacity) {
-            capacity *= 2;
-            T[] newData = (T[]) new Object[capacity];
-            for (int i = 0; i < size; i++) {
-                newData[i] = data[i];
-            }
-            data = newData;
+    private static <T> Comparator<? super T> orNatural(Comparator<? super T> comparator) {
+        if (comparator != null)
+            return comparator;
+        return (a, b) -> ((Comparable<Object>) a).compareTo(b);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public void ensureCapacity(int minCapacity) {
+        checkWritable();
+        if (minCapacity < 0)
+            throw new IllegalStateException("Array is too large");
+        if (minCapacity > capacity) {
+            capacity = Math.max(growthPolicy.grow(capacity), minCapacity);
+            data = Arrays.copyOf(data, capacity);
+            shared = false;
+        }
+    }
+
+    public void trimToSize() {
+        checkWritable();
+        if (size < capacity) {
+            capacity = size;
+            data = Arrays.copyOf(data, capacity);
+            shared = false;
+        }
+    }
+
+    // ---------------- snapshots ----------------
+    // O(1) незмінний знімок поточного вмісту: ділить масив з оригіналом,
+    // тож читачі ітерують його без копіювання. Оригінал копіює масив один
+    // раз — на першому записі після знімка (copy-on-write). Знімок треба
+    // передавати іншим потокам через безпечну публікацію (volatile, черга).
+    public DynamicArray<T> snapshot() {
+        if (readOnly)
+            return this;
+        shared = true;
+        return new DynamicArray<>(data, size, growthPolicy);
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    private void checkWritable() {
+        if (readOnly)
+            throw new UnsupportedOperationException("Snapshot is read-only");
+    }
+
+    // Готує data до запису: перевіряє, що це не знімок, розширює масив і
+    // від'єднується від знімка (одна копія замість двох).
+    private void prepareWrite(int minCapacity) {
+        ensureCapacity(minCapacity);
+        if (shared) {
+            data = Arrays.copyOf(data, capacity);
+            shared = false;
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> T[] toArray(Collection<? extends T> values) {
+        return (T[]) values.toArray();
+    }
+
     private void checkBounds(int index) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
@@ -102,6 +331,7 @@ public class DynamicArray<T> implements Iterable<T> {
     public java.util.Iterator<T> iterator() {
         return new java.util.Iterator<T>() {
             int index = 0;
+            final int expectedModCount = modCount;
 
             @Override
             public boolean hasNext() {
@@ -110,6 +340,10 @@ public class DynamicArray<T> implements Iterable<T> {
 
             @Override
             public T next() {
+                if (modCount != expectedModCount)
+                    throw new java.util.ConcurrentModificationException();
+                if (index >= size)
+                    throw new java.util.NoSuchElementException();
                 return data[index++];
             }
 
@@ -120,6 +354,20 @@ public class DynamicArray<T> implements Iterable<T> {
         };
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        T[] array = data;
+        return new IndexedSpliterator<>(i -> array[i], 0, size, () -> modCount);
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -153,5 +401,22 @@ public class DynamicArray<T> implements Iterable<T> {
         array.print(); // [10, 30]
 
         System.out.println("Is empty? " + array.isEmpty());
+
+        DynamicArray<Integer> batch = new DynamicArray<>(0, GrowthPolicy.additive(1024));
+        batch.ensureCapacity(5);
+        batch.addAll(new Integer[] { 1, 2, 3 });
+        batch.addAll(java.util.List.of(4, 5));
+        batch.insertAll(0, new Integer[] { -1, 0 });
+        batch.print(); // [-1, 0, 1, 2, 3, 4, 5]
+
+        batch.removeRange(1, 4);
+        batch.trimToSize();
+        batch.print(); // [-1, 3, 4, 5]
+        System.out.println("Capacity: " + batch.capacity()); // 4
+
+        DynamicArray<Integer> frozen = batch.snapshot();
+        batch.add(6); // копіює масив, знімок не змінюється
+        frozen.print(); // [-1, 3, 4, 5]
+        batch.print(); // [-1, 3, 4, 5, 6]
     }
 }
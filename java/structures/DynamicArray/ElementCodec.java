@@ -0,0 +1,56 @@
+package structures.DynamicArray;
+
+import java.nio.ByteBuffer;
+
+// Перетворює елемент фіксованого розміру в байти і назад.
+// Використовується масивами, що зберігають дані поза купою.
+public interface ElementCodec<T> {
+
+    int byteSize();
+
+    void write(ByteBuffer buffer, int offset, T value);
+
+    T read(ByteBuffer buffer, int offset);
+
+    ElementCodec<Integer> INT = new ElementCodec<Integer>() {
+        public int byteSize() {
+            return Integer.BYTES;
+        }
+
+        public void write(ByteBuffer buffer, int offset, Integer value) {
+            buffer.putInt(offset, value);
+        }
+
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    ElementCodec<Long> LONG = new ElementCodec<Long>() {
+        public int byteSize() {
+            return Long.BYTES;
+        }
+
+        public void write(ByteBuffer buffer, int offset, Long value) {
+            buffer.putLong(offset, value);
+        }
+
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    ElementCodec<Double> DOUBLE = new ElementCodec<Double>() {
+        public int byteSize() {
+            return Double.BYTES;
+        }
+
+        public void write(ByteBuffer buffer, int offset, Double value) {
+            buffer.putDouble(offset, value);
+        }
+
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+}
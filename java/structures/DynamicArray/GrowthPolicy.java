@@ -0,0 +1,22 @@
+package structures.DynamicArray;
+
+// Визначає нову ємність масиву, коли старої не вистачає.
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    int grow(int capacity);
+
+    GrowthPolicy DOUBLING = factor(2.0);
+
+    static GrowthPolicy factor(double factor) {
+        if (!(factor > 1.0))
+            throw new IllegalArgumentException("Growth factor must be greater than 1: " + factor);
+        return capacity -> (int) Math.min(Integer.MAX_VALUE - 8, Math.max(capacity + 1, (long) (capacity * factor)));
+    }
+
+    static GrowthPolicy additive(int increment) {
+        if (increment <= 0)
+            throw new IllegalArgumentException("Growth increment must be positive: " + increment);
+        return capacity -> (int) Math.min(Integer.MAX_VALUE - 8, (long) capacity + increment);
+    }
+}
@@ -0,0 +1,171 @@
+package structures.DynamicArray;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+public class IntDynamicArray implements Iterable<Integer> {
+    private int[] data;
+    private int size;
+
+    public IntDynamicArray() {
+        this(10);
+    }
+
+    public IntDynamicArray(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        data = new int[initialCapacity];
+        size = 0;
+    }
+
+    public void add(int value) {
+        ensureCapacity(size + 1);
+        data[size++] = value;
+    }
+
+    public void addAll(int[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, data, size, values.length);
+        size += values.length;
+    }
+
+    public int get(int index) {
+        checkBounds(index);
+        return data[index];
+    }
+
+    public void set(int index, int value) {
+        checkBounds(index);
+        data[index] = value;
+    }
+
+    public int removeAt(int index) {
+        checkBounds(index);
+        int removed = data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    public boolean remove(int value) {
+        int index = indexOf(value);
+        if (index == -1)
+            return false;
+        removeAt(index);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (data[i] == value)
+                return i;
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) != -1;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    // Radix sort: O(n) на кожен байт значення, без порівнянь.
+    public void sort() {
+        ArraySorts.radixSort(data, size);
+    }
+
+    // Масив має бути відсортований. Повертає індекс value або
+    // -(точка вставки) - 1, як Arrays.binarySearch.
+    public int binarySearch(int value) {
+        return Arrays.binarySearch(data, 0, size, value);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            int newCapacity = Math.max(Math.max(data.length * 2, 10), minCapacity);
+            data = Arrays.copyOf(data, newCapacity);
+        }
+    }
+
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+        }
+    }
+
+    public void print() {
+        System.out.println(this);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return data[index++];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(data[i]);
+            if (i < size - 1)
+                sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // ---------------- MAIN ----------------
+    public static void main(String[] args) {
+        IntDynamicArray array = new IntDynamicArray();
+
+        array.add(10);
+        array.add(20);
+        array.add(30);
+        array.print(); // [10, 20, 30]
+
+        array.addAll(new int[] { 40, 50 });
+        array.print(); // [10, 20, 30, 40, 50]
+
+        array.set(1, 99);
+        System.out.println("Index of 99: " + array.indexOf(99)); // 1
+
+        array.removeAt(1);
+        array.print(); // [10, 30, 40, 50]
+
+        long sum = 0;
+        PrimitiveIterator.OfInt it = array.iterator();
+        while (it.hasNext())
+            sum += it.nextInt();
+        System.out.println("Sum: " + sum); // 130
+    }
+}
@@ -0,0 +1,171 @@
+package structures.DynamicArray;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+public class LongDynamicArray implements Iterable<Long> {
+    private long[] data;
+    private int size;
+
+    public LongDynamicArray() {
+        this(10);
+    }
+
+    public LongDynamicArray(int initialCapacity) {
+        if (initialCapacity < 0)
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        data = new long[initialCapacity];
+        size = 0;
+    }
+
+    public void add(long value) {
+        ensureCapacity(size + 1);
+        data[size++] = value;
+    }
+
+    public void addAll(long[] values) {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, data, size, values.length);
+        size += values.length;
+    }
+
+    public long get(int index) {
+        checkBounds(index);
+        return data[index];
+    }
+
+    public void set(int index, long value) {
+        checkBounds(index);
+        data[index] = value;
+    }
+
+    public long removeAt(int index) {
+        checkBounds(index);
+        long removed = data[index];
+        System.arraycopy(data, index + 1, data, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    public boolean remove(long value) {
+        int index = indexOf(value);
+        if (index == -1)
+            return false;
+        removeAt(index);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int indexOf(long value) {
+        for (int i = 0; i < size; i++) {
+            if (data[i] == value)
+                return i;
+        }
+        return -1;
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) != -1;
+    }
+
+    public long[] toArray() {
+        return Arrays.copyOf(data, size);
+    }
+
+    // Radix sort: O(n) на кожен байт значення, без порівнянь.
+    public void sort() {
+        ArraySorts.radixSort(data, size);
+    }
+
+    // Масив має бути відсортований. Повертає індекс value або
+    // -(точка вставки) - 1, як Arrays.binarySearch.
+    public int binarySearch(long value) {
+        return Arrays.binarySearch(data, 0, size, value);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity > data.length) {
+            int newCapacity = Math.max(Math.max(data.length * 2, 10), minCapacity);
+            data = Arrays.copyOf(data, newCapacity);
+        }
+    }
+
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+        }
+    }
+
+    public void print() {
+        System.out.println(this);
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return data[index++];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(data[i]);
+            if (i < size - 1)
+                sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // ---------------- MAIN ----------------
+    public static void main(String[] args) {
+        LongDynamicArray array = new LongDynamicArray();
+
+        array.add(10);
+        array.add(20);
+        array.add(30);
+        array.print(); // [10, 20, 30]
+
+        array.addAll(new long[] { 40, 50 });
+        array.print(); // [10, 20, 30, 40, 50]
+
+        array.set(1, 99);
+        System.out.println("Index of 99: " + array.indexOf(99)); // 1
+
+        array.removeAt(1);
+        array.print(); // [10, 30, 40, 50]
+
+        long sum = 0;
+        PrimitiveIterator.OfLong it = array.iterator();
+        while (it.hasNext())
+            sum += it.nextLong();
+        System.out.println("Sum: " + sum); // 130
+    }
+}
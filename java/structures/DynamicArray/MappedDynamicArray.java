@@ -0,0 +1,268 @@
+package structures.DynamicArray;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+// Динамічний масив у файлі, відображеному в пам'ять (FileChannel.map).
+// Заголовок файлу зберігає розмір, ємність і ширину елемента, тому повторне
+// відкриття займає O(1): дані не десеріалізуються, їх підтягує page cache ОС.
+//
+// Формат заголовка (little-endian, 32 байти):
+//   0  int  MAGIC
+//   4  int  ширина елемента в байтах
+//   8  long size
+//   16 long capacity
+public class MappedDynamicArray<T> implements Iterable<T>, Closeable {
+    private static final int MAGIC = 0x44594E41; // "DYNA"
+    private static final int HEADER_BYTES = 32;
+    private static final int WIDTH_OFFSET = 4;
+    private static final int SIZE_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 16;
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private final FileChannel channel;
+    private final ElementCodec<T> codec;
+    private final int width;
+    private MappedByteBuffer buffer;
+    private int size;
+    private int capacity;
+
+    private MappedDynamicArray(FileChannel channel, ElementCodec<T> codec) throws IOException {
+        this.channel = channel;
+        this.codec = codec;
+        this.width = codec.byteSize();
+        if (width <= 0)
+            throw new IllegalArgumentException("Illegal element size: " + width);
+
+        if (channel.size() == 0) {
+            map(DEFAULT_CAPACITY);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(WIDTH_OFFSET, width);
+            writeSize(0);
+        } else {
+            if (channel.size() < HEADER_BYTES)
+                throw new IOException("File is too short for a header");
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt(0) != MAGIC)
+                throw new IOException("Not a MappedDynamicArray file");
+            if (header.getInt(WIDTH_OFFSET) != width)
+                throw new IOException("Element size mismatch: file has " + header.getInt(WIDTH_OFFSET)
+                        + ", codec has " + width);
+            long storedSize = header.getLong(SIZE_OFFSET);
+            long storedCapacity = header.getLong(CAPACITY_OFFSET);
+            DirectBuffers.free(header);
+            if (storedSize < 0 || storedSize > storedCapacity
+                    || channel.size() < HEADER_BYTES + storedCapacity * width)
+                throw new IOException("Corrupted header");
+            map((int) storedCapacity);
+            size = (int) storedSize;
+        }
+    }
+
+    public static <T> MappedDynamicArray<T> open(Path file, ElementCodec<T> codec) throws IOException {
+        Objects.requireNonNull(codec);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new MappedDynamicArray<>(channel, codec);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public void add(T value) {
+        Objects.requireNonNull(value);
+        ensureCapacity();
+        codec.write(buffer, offsetOf(size), value);
+        writeSize(size + 1);
+    }
+
+    public T get(int index) {
+        checkBounds(index);
+        return codec.read(buffer, offsetOf(index));
+    }
+
+    public void set(int index, T value) {
+        checkBounds(index);
+        Objects.requireNonNull(value);
+        codec.write(buffer, offsetOf(index), value);
+    }
+
+    public T removeAt(int index) {
+        checkBounds(index);
+        T removed = get(index);
+        buffer.put(offsetOf(index), buffer, offsetOf(index + 1), (size - index - 1) * width);
+        writeSize(size - 1);
+        return removed;
+    }
+
+    public boolean remove(Object obj) {
+        int index = indexOf(obj);
+        if (index == -1)
+            return false;
+        removeAt(index);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        ensureOpen();
+        writeSize(0);
+    }
+
+    public int indexOf(Object obj) {
+        ensureOpen();
+        if (obj == null)
+            return -1;
+        for (int i = 0; i < size; i++) {
+            if (obj.equals(codec.read(buffer, offsetOf(i))))
+                return i;
+        }
+        return -1;
+    }
+
+    public boolean contains(Object obj) {
+        return indexOf(obj) != -1;
+    }
+
+    // Скидає змінені сторінки на диск.
+    public void force() {
+        ensureOpen();
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer == null)
+            return;
+        buffer.force();
+        DirectBuffers.free(buffer);
+        buffer = null;
+        channel.close();
+    }
+
+    private void map(int newCapacity) throws IOException {
+        long bytes = HEADER_BYTES + (long) newCapacity * width;
+        if (bytes > Integer.MAX_VALUE)
+            throw new IllegalStateException("Array is too large to map: " + bytes + " bytes");
+        MappedByteBuffer old = buffer;
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        DirectBuffers.free(old);
+        capacity = newCapacity;
+        buffer.putLong(CAPACITY_OFFSET, capacity);
+    }
+
+    private void ensureCapacity() {
+        ensureOpen();
+        if (size == capacity) {
+            long maxCapacity = (Integer.MAX_VALUE - HEADER_BYTES) / width;
+            if (capacity >= maxCapacity)
+                throw new IllegalStateException("Array is full");
+            try {
+                map((int) Math.min((long) capacity * 2, maxCapacity));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void writeSize(int newSize) {
+        size = newSize;
+        buffer.putLong(SIZE_OFFSET, newSize);
+    }
+
+    private int offsetOf(int index) {
+        return HEADER_BYTES + index * width;
+    }
+
+    private void ensureOpen() {
+        if (buffer == null)
+            throw new IllegalStateException("Array is closed");
+    }
+
+    private void checkBounds(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+        }
+    }
+
+    public void print() {
+        System.out.println(this);
+    }
+
+    @Override
+    public java.util.Iterator<T> iterator() {
+        ensureOpen();
+        return new java.util.Iterator<T>() {
+            int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return get(index++);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        if (buffer == null)
+            return "[closed]";
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(get(i));
+            if (i < size - 1)
+                sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // ---------------- MAIN ----------------
+    public static void main(String[] args) throws IOException {
+        Path file = Files.createTempFile("dynamic-array", ".bin");
+        Files.delete(file);
+
+        try (MappedDynamicArray<Integer> array = MappedDynamicArray.open(file, ElementCodec.INT)) {
+            for (int i = 1; i <= 20; i++)
+                array.add(i * 10);
+            array.removeAt(0);
+            array.force();
+            System.out.println("Size before reopen: " + array.size()); // 19
+        }
+
+        try (MappedDynamicArray<Integer> array = MappedDynamicArray.open(file, ElementCodec.INT)) {
+            System.out.println("Size after reopen: " + array.size()); // 19
+            System.out.println("First: " + array.get(0) + ", Last: " + array.get(array.size() - 1)); // 20, 200
+        }
+
+        Files.delete(file);
+    }
+}
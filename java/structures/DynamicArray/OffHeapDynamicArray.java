@@ -0,0 +1,221 @@
+package structures.DynamicArray;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+// Динамічний масив, елементи якого лежать у native-пам'яті (direct ByteBuffer),
+// тому GC не сканує їх. Пам'ять виділяється сегментами, отже при рості нічого
+// не копіюється, а розмір масиву не обмежений 2 ГБ одного буфера.
+public class OffHeapDynamicArray<T> implements Iterable<T>, AutoCloseable {
+    private static final int SEGMENT_BYTES = 1 << 20;
+
+    private final ElementCodec<T> codec;
+    private final int width;
+    private final int shift;
+    private final int mask;
+    private ByteBuffer[] segments;
+    private int segmentCount;
+    private int size;
+    private boolean closed;
+
+    public OffHeapDynamicArray(ElementCodec<T> codec) {
+        this.codec = Objects.requireNonNull(codec);
+        width = codec.byteSize();
+        if (width <= 0 || width > SEGMENT_BYTES)
+            throw new IllegalArgumentException("Illegal element size: " + width);
+        int perSegment = Integer.highestOneBit(SEGMENT_BYTES / width);
+        shift = Integer.numberOfTrailingZeros(perSegment);
+        mask = perSegment - 1;
+        segments = new ByteBuffer[4];
+        segmentCount = 0;
+        size = 0;
+    }
+
+    public void add(T value) {
+        ensureOpen();
+        Objects.requireNonNull(value);
+        ensureCapacity();
+        codec.write(segmentOf(size), offsetOf(size), value);
+        size++;
+    }
+
+    public T get(int index) {
+        checkBounds(index);
+        return codec.read(segmentOf(index), offsetOf(index));
+    }
+
+    public void set(int index, T value) {
+        checkBounds(index);
+        Objects.requireNonNull(value);
+        codec.write(segmentOf(index), offsetOf(index), value);
+    }
+
+    public T removeAt(int index) {
+        checkBounds(index);
+        T removed = get(index);
+        int last = size - 1;
+        int i = index;
+        while (i < last) {
+            ByteBuffer segment = segmentOf(i);
+            int segmentLast = Math.min((((i >>> shift) + 1) << shift) - 1, last);
+            int count = segmentLast - i;
+            if (count > 0)
+                segment.put(offsetOf(i), segment, offsetOf(i + 1), count * width);
+            i = segmentLast;
+            if (i < last) {
+                // перший елемент наступного сегмента стає останнім у поточному
+                segment.put(offsetOf(i), segmentOf(i + 1), 0, width);
+                i++;
+            }
+        }
+        size--;
+        return removed;
+    }
+
+    public boolean remove(Object obj) {
+        int index = indexOf(obj);
+        if (index == -1)
+            return false;
+        removeAt(index);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        ensureOpen();
+        size = 0;
+    }
+
+    public int indexOf(Object obj) {
+        ensureOpen();
+        if (obj == null)
+            return -1;
+        for (int i = 0; i < size; i++) {
+            if (obj.equals(codec.read(segmentOf(i), offsetOf(i))))
+                return i;
+        }
+        return -1;
+    }
+
+    public boolean contains(Object obj) {
+        return indexOf(obj) != -1;
+    }
+
+    // Байти, зайняті в native-пам'яті.
+    public long capacityBytes() {
+        return (long) segmentCount * ((long) (mask + 1) * width);
+    }
+
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        for (int i = 0; i < segmentCount; i++) {
+            DirectBuffers.free(segments[i]);
+            segments[i] = null;
+        }
+        segments = null;
+        segmentCount = 0;
+        size = 0;
+        closed = true;
+    }
+
+    private ByteBuffer segmentOf(int index) {
+        return segments[index >>> shift];
+    }
+
+    private int offsetOf(int index) {
+        return (index & mask) * width;
+    }
+
+    private void ensureCapacity() {
+        if (size == Integer.MAX_VALUE)
+            throw new IllegalStateException("Array is full");
+        if ((size >>> shift) < segmentCount)
+            return;
+        if (segmentCount == segments.length)
+            segments = Arrays.copyOf(segments, segments.length * 2);
+        segments[segmentCount++] = ByteBuffer.allocateDirect((mask + 1) * width)
+                .order(ByteOrder.nativeOrder());
+    }
+
+    private void ensureOpen() {
+        if (closed)
+            throw new IllegalStateException("Array is closed");
+    }
+
+    private void checkBounds(int index) {
+        ensureOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+        }
+    }
+
+    public void print() {
+        System.out.println(this);
+    }
+
+    @Override
+    public java.util.Iterator<T> iterator() {
+        ensureOpen();
+        return new java.util.Iterator<T>() {
+            int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                return get(index++);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        if (closed)
+            return "[closed]";
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(get(i));
+            if (i < size - 1)
+                sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // ---------------- MAIN ----------------
+    public static void main(String[] args) {
+        try (OffHeapDynamicArray<Long> array = new OffHeapDynamicArray<>(ElementCodec.LONG)) {
+            array.add(10L);
+            array.add(20L);
+            array.add(30L);
+            array.print(); // [10, 20, 30]
+
+            array.set(1, 99L);
+            array.removeAt(0);
+            array.print(); // [99, 30]
+
+            for (long i = 0; i < 1_000_000; i++)
+                array.add(i);
+            System.out.println("Size: " + array.size()); // 1000002
+            System.out.println("Off-heap bytes: " + array.capacityBytes());
+        }
+    }
+}
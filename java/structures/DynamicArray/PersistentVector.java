@@ -0,0 +1,294 @@
+package structures.DynamicArray;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import structures.Parallel.IndexedSpliterator;
+
+// Незмінний вектор: 32-арне дерево з бітовим розбиттям індексу плюс "хвіст"
+// з останніх (до 32) елементів. set/add/removeLast повертають нову версію за
+// O(log32 n), копіюючи лише шлях від кореня до листа; решта вузлів спільна
+// між версіями. Усі поля final, тож будь-яку версію можна читати з будь-якого
+// потоку без блокувань.
+public final class PersistentVector<T> implements Iterable<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_NODE = new Object[WIDTH];
+    private static final PersistentVector<?> EMPTY =
+            new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift; // BITS * (висота дерева)
+    private final Object[] root; // внутрішні вузли: Object[] дітей; листя: елементи
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <T> PersistentVector<T> of(T... values) {
+        PersistentVector<T> vector = empty();
+        for (T value : values)
+            vector = vector.add(value);
+        return vector;
+    }
+
+    public static <T> PersistentVector<T> from(Iterable<? extends T> values) {
+        PersistentVector<T> vector = empty();
+        for (T value : values)
+            vector = vector.add(value);
+        return vector;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkBounds(index);
+        return (T) leafFor(index)[index & MASK];
+    }
+
+    public PersistentVector<T> set(int index, T value) {
+        checkBounds(index);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = value;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, assoc(shift, root, index, value), tail);
+    }
+
+    public PersistentVector<T> add(T value) {
+        // Є місце у хвості: копіюємо лише його.
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        // Повний хвіст переїжджає в дерево як новий лист.
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            // Дерево заповнене: додаємо новий рівень над коренем.
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] { value });
+    }
+
+    public PersistentVector<T> removeLast() {
+        if (size == 0)
+            throw new IllegalStateException("Vector is empty");
+        if (size == 1)
+            return empty();
+        if (size - tailOffset() > 1) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length - 1);
+            return new PersistentVector<>(size - 1, shift, root, newTail);
+        }
+        // Хвіст спорожнів: останній лист дерева стає новим хвостом.
+        Object[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null)
+            newRoot = EMPTY_NODE;
+        if (shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        if (size == 0)
+            throw new IllegalStateException("Vector is empty");
+        return (T) tail[tail.length - 1];
+    }
+
+    public int indexOf(Object obj) {
+        for (int i = 0; i < size; i++) {
+            Object value = leafFor(i)[i & MASK];
+            if (obj == null ? value == null : obj.equals(value))
+                return i;
+        }
+        return -1;
+    }
+
+    public boolean contains(Object obj) {
+        return indexOf(obj) != -1;
+    }
+
+    public DynamicArray<T> toDynamicArray() {
+        DynamicArray<T> array = new DynamicArray<>(size);
+        for (T value : this)
+            array.add(value);
+        return array;
+    }
+
+    // Індекс першого елемента хвоста.
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset())
+            return tail;
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS)
+            node = (Object[]) node[(index >>> level) & MASK];
+        return node;
+    }
+
+    private static Object[] assoc(int level, Object[] node, int index, Object value) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = value;
+        } else {
+            int sub = (index >>> level) & MASK;
+            copy[sub] = assoc(level - BITS, (Object[]) node[sub], index, value);
+        }
+        return copy;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] leaf) {
+        int sub = ((size - 1) >>> level) & MASK;
+        Object[] copy = parent.clone();
+        Object[] child;
+        if (level == BITS) {
+            child = leaf;
+        } else {
+            Object[] existing = (Object[]) parent[sub];
+            child = existing != null
+                    ? pushTail(level - BITS, existing, leaf)
+                    : newPath(level - BITS, leaf);
+        }
+        copy[sub] = child;
+        return copy;
+    }
+
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0)
+            return leaf;
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    // Повертає вузол без останнього листа або null, якщо вузол спорожнів.
+    private Object[] popTail(int level, Object[] node) {
+        int sub = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Object[] child = popTail(level - BITS, (Object[]) node[sub]);
+            if (child == null && sub == 0)
+                return null;
+            Object[] copy = node.clone();
+            copy[sub] = child;
+            return copy;
+        }
+        if (sub == 0)
+            return null;
+        Object[] copy = node.clone();
+        copy[sub] = null;
+        return copy;
+    }
+
+    private void checkBounds(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+        }
+    }
+
+    // Ітерує лист за листом: спуск по дереву раз на 32 елементи.
+    @Override
+    public java.util.Iterator<T> iterator() {
+        return new java.util.Iterator<T>() {
+            int index = 0;
+            Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index >= size)
+                    throw new NoSuchElementException();
+                if ((index & MASK) == 0 || leaf == null)
+                    leaf = leafFor(index);
+                return (T) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Spliterator<T> spliterator() {
+        return new IndexedSpliterator<>(i -> (T) leafFor(i)[i & MASK], 0, size);
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[");
+        for (int i = 0; i < size; i++) {
+            sb.append(leafFor(i)[i & MASK]);
+            if (i < size - 1)
+                sb.append(", ");
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    // ---------------- MAIN ----------------
+    public static void main(String[] args) {
+        PersistentVector<Integer> v1 = PersistentVector.of(10, 20, 30);
+        PersistentVector<Integer> v2 = v1.set(1, 99);
+        PersistentVector<Integer> v3 = v2.add(40);
+
+        System.out.println(v1); // [10, 20, 30]
+        System.out.println(v2); // [10, 99, 30]
+        System.out.println(v3); // [10, 99, 30, 40]
+        System.out.println("v3.removeLast(): " + v3.removeLast()); // [10, 99, 30]
+
+        PersistentVector<Integer> big = PersistentVector.empty();
+        for (int i = 0; i < 100_000; i++)
+            big = big.add(i);
+        PersistentVector<Integer> edited = big.set(50_000, -1);
+        System.out.println(big.get(50_000) + " " + edited.get(50_000)); // 50000 -1
+        System.out.println("Size: " + edited.size()); // 100000
+    }
+}
@@ -0,0 +1,141 @@
+package structures.HashIndex;
+
+import java.util.Arrays;
+
+// Хеш-таблиця з відкритою адресацією (лінійне зондування), що рахує, скільки
+// разів кожен елемент є в колекції. Колекції тримають її як додатковий індекс,
+// щоб contains працював за O(1) замість лінійного пошуку.
+// Зберігаються саме кількості, а не позиції: вставка чи видалення в середині
+// зсуває позиції всіх наступних елементів, а кількості від цього не змінюються.
+public class HashIndex {
+
+  private static final Object NULL_KEY = new Object(); // заміна для null
+  private static final int MIN_CAPACITY = 16;
+
+  private Object[] keys;
+  private int[] counts;
+  private int distinct = 0;
+
+  public HashIndex() {
+    this(MIN_CAPACITY);
+  }
+
+  public HashIndex(int expectedKeys) {
+    int capacity = MIN_CAPACITY;
+    while (capacity < expectedKeys * 2 && capacity < (1 << 30))
+      capacity <<= 1;
+    keys = new Object[capacity];
+    counts = new int[capacity];
+  }
+
+  // кількість різних елементів
+  public int size() {
+    return distinct;
+  }
+
+  public void clear() {
+    Arrays.fill(keys, null);
+    Arrays.fill(counts, 0);
+    distinct = 0;
+  }
+
+  public boolean contains(Object obj) {
+    return count(obj) > 0;
+  }
+
+  public int count(Object obj) {
+    Object key = mask(obj);
+    int slot = find(key);
+    return keys[slot] == null ? 0 : counts[slot];
+  }
+
+  public void add(Object obj) {
+    Object key = mask(obj);
+    int slot = find(key);
+    if (keys[slot] != null) {
+      counts[slot]++;
+      return;
+    }
+    keys[slot] = key;
+    counts[slot] = 1;
+    if (++distinct * 4 > keys.length * 3)
+      resize(keys.length * 2);
+  }
+
+  public void remove(Object obj) {
+    Object key = mask(obj);
+    int slot = find(key);
+    if (keys[slot] == null)
+      return;
+    if (--counts[slot] > 0)
+      return;
+    deleteSlot(slot);
+    distinct--;
+  }
+
+  // Слот з ключем key або перший порожній слот на його ланцюжку.
+  private int find(Object key) {
+    int m = keys.length - 1;
+    int slot = hash(key) & m;
+    while (keys[slot] != null && !keys[slot].equals(key))
+      slot = (slot + 1) & m;
+    return slot;
+  }
+
+  // Видалення без "надгробків": наступні ключі ланцюжка зсуваються назад.
+  private void deleteSlot(int slot) {
+    int m = keys.length - 1;
+    int hole = slot;
+    int next = (hole + 1) & m;
+    while (keys[next] != null) {
+      int home = hash(keys[next]) & m;
+      // ключ можна перенести в дірку, якщо його домашній слот не між діркою і ним
+      if (((next - home) & m) >= ((next - hole) & m)) {
+        keys[hole] = keys[next];
+        counts[hole] = counts[next];
+        hole = next;
+      }
+      next = (next + 1) & m;
+    }
+    keys[hole] = null;
+    counts[hole] = 0;
+  }
+
+  private void resize(int capacity) {
+    Object[] oldKeys = keys;
+    int[] oldCounts = counts;
+    keys = new Object[capacity];
+    counts = new int[capacity];
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != null) {
+        int slot = find(oldKeys[i]);
+        keys[slot] = oldKeys[i];
+        counts[slot] = oldCounts[i];
+      }
+    }
+  }
+
+  private static Object mask(Object obj) {
+    return obj == null ? NULL_KEY : obj;
+  }
+
+  private static int hash(Object key) {
+    int h = key.hashCode() * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  public static void main(String[] args) {
+    HashIndex index = new HashIndex();
+    index.add("a");
+    index.add("b");
+    index.add("a");
+    index.add(null);
+    System.out.println("count(a): " + index.count("a")); // 2
+    index.remove("a");
+    index.remove("b");
+    System.out.println("contains(a): " + index.contains("a")); // true
+    System.out.println("contains(b): " + index.contains("b")); // false
+    System.out.println("contains(null): " + index.contains(null)); // true
+    System.out.println("distinct: " + index.size()); // 2
+  }
+}
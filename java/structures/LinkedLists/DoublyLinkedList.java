@@ -1,14 +1,38 @@
 package structures.LinkedLists;
 
+import structures.HashIndex.HashIndex;
+
 public class DoublyLinkedList<T> implements Iterable<T> {
 
   private int size = 0;
   private Node<T> head = null;
   private Node<T> tail = null;
 
-  private static class Node<T> {
+  // Пул вузлів: видалені вузли повертаються сюди і перевикористовуються при
+  // додаванні, тож у сталому режимі список не виділяє пам'ять. Не пулуються
+  // лише вузли з addFirstHandle/addLastHandle: вони видані як Handle.
+  private final int poolCapacity;
+  private Node<T> pool = null;
+  private int poolSize = 0;
+
+  private HashIndex hashIndex = null; // null, якщо індекс вимкнено
+
+  // Лічильник структурних змін для fail-fast ітератора. Особливо важливий
+  // з пулом: видалений вузол може вже лежати в пулі або в іншому місці списку.
+  private int modCount = 0;
+
+  // Непрозорий дескриптор елемента, який повертають addFirstHandle/addLastHandle.
+  // Дає змогу видаляти й переміщувати елемент за O(1), без пошуку.
+  // Після видалення елемента дескриптор стає недійсним назавжди.
+  public interface Handle<T> {
+    T value();
+  }
+
+  private static class Node<T> implements Handle<T> {
     T data;
     Node<T> prev, next;
+    DoublyLinkedList<T> owner;
+    boolean exposed; // вузол виданий як Handle: у пул не повертається
 
     public Node(T data, Node<T> prev, Node<T> next) {
       this.data = data;
@@ -16,18 +40,69 @@ public class DoublyLinkedList<T> implements Iterable<T> {
       this.next = next;
     }
 
+    @Override
+    public T value() {
+      return data;
+    }
+
     @Override
     public String toString() {
       return data.toString();
     }
   }
 
+  public DoublyLinkedList() {
+    this(0);
+  }
+
+  public DoublyLinkedList(int poolCapacity) {
+    if (poolCapacity < 0)
+      throw new IllegalArgumentException("Illegal pool capacity: " + poolCapacity);
+    this.poolCapacity = poolCapacity;
+  }
+
+  private Node<T> obtainNode(T value, Node<T> prev, Node<T> next) {
+    modCount++;
+    if (hashIndex != null)
+      hashIndex.add(value);
+    Node<T> node;
+    if (pool == null) {
+      node = new Node<>(value, prev, next);
+    } else {
+      node = pool;
+      pool = node.next;
+      poolSize--;
+      node.data = value;
+      node.prev = prev;
+      node.next = next;
+    }
+    node.owner = this;
+    return node;
+  }
+
+  private void recycle(Node<T> node) {
+    modCount++;
+    if (hashIndex != null)
+      hashIndex.remove(node.data);
+    node.data = null;
+    node.prev = null;
+    node.owner = null;
+    // Виданий дескриптор мусить лишитися недійсним назавжди, тому такий
+    // вузол не перевикористовується.
+    if (poolSize < poolCapacity && !node.exposed) {
+      node.next = pool;
+      pool = node;
+      poolSize++;
+    } else {
+      node.next = null;
+    }
+  }
+
   public void clear() {
     Node<T> trav = head;
     while (trav != null) {
       Node<T> next = trav.next;
-      trav.prev = trav.next = null;
-      trav.data = null;
+      recycle(trav);
       trav = next;
     }
     head = tail = null;
@@ -47,25 +122,63 @@ public class DoublyLinkedList<T> implements Iterable<T> {
   }
 
   public void addFirst(T value) {
-    if (isEmpty()) {
-      head = tail = new Node<>(value, null, null);
-    } else {
-      Node<T> newNode = new Node<>(value, null, head);
-      head.prev = newNode;
-      head = newNode;
-    }
+    linkFirst(obtainNode(value, null, null));
     size++;
   }
 
   public void addLast(T value) {
-    if (isEmpty()) {
-      head = tail = new Node<>(value, null, null);
-    } else {
-      Node<T> newNode = new Node<>(value, tail, null);
-      tail.next = newNode;
-      tail = newNode;
-    }
+    linkLast(obtainNode(value, null, null));
+    size++;
+  }
+
+  // Те саме, що addFirst/addLast, але повертає дескриптор елемента. Такий
+  // вузол після видалення не йде в пул, щоб старий дескриптор не ожив.
+  public Handle<T> addFirstHandle(T value) {
+    Node<T> newNode = obtainNode(value, null, null);
+    newNode.exposed = true;
+    linkFirst(newNode);
+    size++;
+    return newNode;
+  }
+
+  public Handle<T> addLastHandle(T value) {
+    Node<T> newNode = obtainNode(value, null, null);
+    newNode.exposed = true;
+    linkLast(newNode);
     size++;
+    return newNode;
+  }
+
+  private void linkFirst(Node<T> node) {
+    node.prev = null;
+    node.next = head;
+    if (head == null)
+      tail = node;
+    else
+      head.prev = node;
+    head = node;
+  }
+
+  private void linkLast(Node<T> node) {
+    node.next = null;
+    node.prev = tail;
+    if (tail == null)
+      head = node;
+    else
+      tail.next = node;
+    tail = node;
+  }
+
+  // Виймає вузол зі списку, не звільняючи його.
+  private void detach(Node<T> node) {
+    if (node.prev == null)
+      head = node.next;
+    else
+      node.prev.next = node.next;
+    if (node.next == null)
+      tail = node.prev;
+    else
+      node.next.prev = node.prev;
   }
 
   public void addAt(int index, T value) {
@@ -93,7 +206,7 @@ public class DoublyLinkedList<T> implements Iterable<T> {
         trav = trav.prev;
     }
 
-    Node<T> newNode = new Node<>(value, trav, trav.next);
+    Node<T> newNode = obtainNode(value, trav, trav.next);
     trav.next.prev = newNode;
     trav.next = newNode;
     size++;
@@ -114,8 +227,10 @@ public class DoublyLinkedList<T> implements Iterable<T> {
   public T removeFirst() {
     if (isEmpty())
       throw new IllegalStateException("List is empty");
-    T data = head.data;
+    Node<T> node = head;
+    T data = node.data;
     head = head.next;
+    recycle(node);
     size--;
     if (isEmpty())
       tail = null;
@@ -127,8 +242,10 @@ public class DoublyLinkedList<T> implements Iterable<T> {
   public T removeLast() {
     if (isEmpty())
       throw new IllegalStateException("List is empty");
-    T data = tail.data;
+    Node<T> node = tail;
+    T data = node.data;
     tail = tail.prev;
+    recycle(node);
     size--;
     if (isEmpty())
       head = null;
@@ -137,7 +254,7 @@ public class DoublyLinkedList<T> implements Iterable<T> {
     return data;
   }
 
-  private T remove(Node<T> node) {
+  private T unlink(Node<T> node) {
     if (node.prev == null)
       return removeFirst();
     if (node.next == null)
@@ -146,12 +263,39 @@ public class DoublyLinkedList<T> implements Iterable<T> {
     node.next.prev = node.prev;
     node.prev.next = node.next;
     T data = node.data;
-    node.data = null;
-    node.prev = node.next = null;
+    recycle(node);
     size--;
     return data;
   }
 
+  public T remove(Handle<T> handle) {
+    return unlink(checkHandle(handle));
+  }
+
+  public void moveToFront(Handle<T> handle) {
+    Node<T> node = checkHandle(handle);
+    if (node == head)
+      return;
+    modCount++;
+    detach(node);
+    linkFirst(node);
+  }
+
+  public void moveToBack(Handle<T> handle) {
+    Node<T> node = checkHandle(handle);
+    if (node == tail)
+      return;
+    modCount++;
+    detach(node);
+    linkLast(node);
+  }
+
+  private Node<T> checkHandle(Handle<T> handle) {
+    if (!(handle instanceof Node) || ((Node<T>) handle).owner != this)
+      throw new IllegalArgumentException("Handle does not belong to this list");
+    return (Node<T>) handle;
+  }
+
   public T removeAt(int index) {
     if (index < 0 || index >= size)
       throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
@@ -166,15 +310,17 @@ public class DoublyLinkedList<T> implements Iterable<T> {
       for (int i = size - 1; i > index; i--)
         trav = trav.prev;
     }
-    return remove(trav);
+    return unlink(trav);
   }
 
   public boolean remove(Object obj) {
+    if (hashIndex != null && !hashIndex.contains(obj))
+      return false;
     Node<T> trav = head;
     if (obj == null) {
       while (trav != null) {
         if (trav.data == null) {
-          remove(trav);
+          unlink(trav);
           return true;
         }
         trav = trav.next;
@@ -182,7 +328,7 @@ public class DoublyLinkedList<T> implements Iterable<T> {
     } else {
       while (trav != null) {
         if (obj.equals(trav.data)) {
-          remove(trav);
+          unlink(trav);
           return true;
         }
         trav = trav.next;
@@ -192,6 +338,8 @@ public class DoublyLinkedList<T> implements Iterable<T> {
   }
 
   public int indexOf(Object obj) {
+    if (hashIndex != null && !hashIndex.contains(obj))
+      return -1;
     Node<T> trav = head;
     int index = 0;
     if (obj == null) {
@@ -213,9 +361,29 @@ public class DoublyLinkedList<T> implements Iterable<T> {
   }
 
   public boolean contains(Object obj) {
+    if (hashIndex != null)
+      return hashIndex.contains(obj);
     return indexOf(obj) != -1;
   }
 
+  // Вмикає хеш-індекс елементів: contains за O(1) ціною пам'яті й
+  // додаткової роботи на кожному додаванні/видаленні.
+  public void enableHashIndex() {
+    if (hashIndex != null)
+      return;
+    hashIndex = new HashIndex(size);
+    for (T value : this)
+      hashIndex.add(value);
+  }
+
+  public void dropHashIndex() {
+    hashIndex = null;
+  }
+
+  public boolean hasHashIndex() {
+    return hashIndex != null;
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder("[");
@@ -234,6 +402,7 @@ public class DoublyLinkedList<T> implements Iterable<T> {
   public java.util.Iterator<T> iterator() {
     return new java.util.Iterator<T>() {
       private Node<T> trav = head;
+      private final int expectedModCount = modCount;
 
       @Override
       public boolean hasNext() {
@@ -242,6 +411,10 @@ public class DoublyLinkedList<T> implements Iterable<T> {
 
       @Override
       public T next() {
+        if (modCount != expectedModCount)
+          throw new java.util.ConcurrentModificationException();
+        if (trav == null)
+          throw new java.util.NoSuchElementException();
         T data = trav.data;
         trav = trav.next;
         return data;
@@ -249,6 +422,21 @@ public class DoublyLinkedList<T> implements Iterable<T> {
     };
   }
 
+  // Вузли можна обійти лише послідовно, тому спліт відрізає пачки
+  // зростаючого розміру (як у java.util.LinkedList).
+  @Override
+  public java.util.Spliterator<T> spliterator() {
+    return java.util.Spliterators.spliterator(iterator(), size, java.util.Spliterator.ORDERED);
+  }
+
+  public java.util.stream.Stream<T> stream() {
+    return java.util.stream.StreamSupport.stream(spliterator(), false);
+  }
+
+  public java.util.stream.Stream<T> parallelStream() {
+    return java.util.stream.StreamSupport.stream(spliterator(), true);
+  }
+
   // ---------------- MAIN ----------------
   public static void main(String[] args) {
     DoublyLinkedList<Integer> list = new DoublyLinkedList<>();
@@ -282,6 +470,13 @@ public class DoublyLinkedList<T> implements Iterable<T> {
     list.remove((Integer) 200);
     System.out.println("After remove(200): " + list);
 
+    // Handles: O(1) removal and reordering without a scan
+    DoublyLinkedList.Handle<Integer> h400 = list.addLastHandle(400);
+    DoublyLinkedList.Handle<Integer> h500 = list.addLastHandle(500);
+    list.moveToFront(h500);
+    list.remove(h400);
+    System.out.println("After handle ops: " + list); // [500, 49, 100, 300]
+
     // Iteration
     System.out.print("Iterating: ");
     for (int val : list)
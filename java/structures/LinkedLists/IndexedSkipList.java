@@ -0,0 +1,306 @@
+package structures.LinkedLists;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Послідовність на skip-list з ширинами переходів: кожне посилання next[i]
+// пам'ятає, скільки елементів нижнього рівня воно перестрибує. Завдяки цьому
+// get, set, addAt і removeAt працюють за очікуване O(log n), а не O(n).
+// Методи ті самі, що й у DoublyLinkedList.
+public class IndexedSkipList<T> implements Iterable<T> {
+
+  private static final int MAX_LEVEL = 32;
+
+  private final Node<T> head = new Node<>(null, MAX_LEVEL); // сторож, позиція 0
+  private Node<T> tail = null;
+  private int level = 1;
+  private int size = 0;
+
+  // робочі масиви для addAt/removeAt, щоб не виділяти їх при кожному виклику
+  private final Node<T>[] update = newNodeArray(MAX_LEVEL);
+  private final int[] rank = new int[MAX_LEVEL];
+
+  private static class Node<T> {
+    T data;
+    final Node<T>[] next;
+    final int[] width;
+
+    Node(T data, int level) {
+      this.data = data;
+      this.next = newNodeArray(level);
+      this.width = new int[level];
+    }
+  }
+
+  private static <T> Node<T>[] newNodeArray(int length) {
+    @SuppressWarnings("unchecked")
+    Node<T>[] array = (Node<T>[]) new Node<?>[length];
+    return array;
+  }
+
+  public void clear() {
+    Node<T> trav = head.next[0];
+    while (trav != null) {
+      Node<T> next = trav.next[0];
+      trav.data = null;
+      java.util.Arrays.fill(trav.next, null);
+      trav = next;
+    }
+    java.util.Arrays.fill(head.next, null);
+    java.util.Arrays.fill(head.width, 0);
+    tail = null;
+    level = 1;
+    size = 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void add(T value) {
+    addLast(value);
+  }
+
+  public void addFirst(T value) {
+    addAt(0, value);
+  }
+
+  public void addLast(T value) {
+    addAt(size, value);
+  }
+
+  public void addAt(int index, T value) {
+    if (index < 0 || index > size)
+      throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+
+    // шукаємо на кожному рівні останній вузол з позицією <= index
+    Node<T> x = head;
+    int pos = 0;
+    for (int lvl = level - 1; lvl >= 0; lvl--) {
+      while (x.next[lvl] != null && pos + x.width[lvl] <= index) {
+        pos += x.width[lvl];
+        x = x.next[lvl];
+      }
+      update[lvl] = x;
+      rank[lvl] = pos;
+    }
+
+    int nodeLevel = randomLevel();
+    if (nodeLevel > level) {
+      for (int lvl = level; lvl < nodeLevel; lvl++) {
+        update[lvl] = head;
+        rank[lvl] = 0;
+        head.width[lvl] = size + 1;
+      }
+      level = nodeLevel;
+    }
+
+    Node<T> node = new Node<>(value, nodeLevel);
+    int nodePos = index + 1;
+    for (int lvl = 0; lvl < nodeLevel; lvl++) {
+      Node<T> prev = update[lvl];
+      node.next[lvl] = prev.next[lvl];
+      prev.next[lvl] = node;
+      node.width[lvl] = rank[lvl] + prev.width[lvl] + 1 - nodePos;
+      prev.width[lvl] = nodePos - rank[lvl];
+    }
+    for (int lvl = nodeLevel; lvl < level; lvl++)
+      update[lvl].width[lvl]++;
+
+    if (node.next[0] == null)
+      tail = node;
+    size++;
+    clearUpdate();
+  }
+
+  public T get(int index) {
+    return nodeAt(index).data;
+  }
+
+  public T set(int index, T value) {
+    Node<T> node = nodeAt(index);
+    T old = node.data;
+    node.data = value;
+    return old;
+  }
+
+  public T getFirst() {
+    if (isEmpty())
+      throw new IllegalStateException("List is empty");
+    return head.next[0].data;
+  }
+
+  public T getLast() {
+    if (isEmpty())
+      throw new IllegalStateException("List is empty");
+    return tail.data;
+  }
+
+  public T removeFirst() {
+    if (isEmpty())
+      throw new IllegalStateException("List is empty");
+    return removeAt(0);
+  }
+
+  public T removeLast() {
+    if (isEmpty())
+      throw new IllegalStateException("List is empty");
+    return removeAt(size - 1);
+  }
+
+  public T removeAt(int index) {
+    if (index < 0 || index >= size)
+      throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+
+    // попередник цільового вузла (позиція index + 1) на кожному рівні
+    int target = index + 1;
+    Node<T> x = head;
+    int pos = 0;
+    for (int lvl = level - 1; lvl >= 0; lvl--) {
+      while (x.next[lvl] != null && pos + x.width[lvl] < target) {
+        pos += x.width[lvl];
+        x = x.next[lvl];
+      }
+      update[lvl] = x;
+    }
+
+    Node<T> node = update[0].next[0];
+    for (int lvl = 0; lvl < level; lvl++) {
+      Node<T> prev = update[lvl];
+      if (prev.next[lvl] == node) {
+        prev.width[lvl] += node.width[lvl] - 1;
+        prev.next[lvl] = node.next[lvl];
+      } else {
+        prev.width[lvl]--;
+      }
+    }
+    while (level > 1 && head.next[level - 1] == null)
+      level--;
+
+    if (node == tail)
+      tail = update[0] == head ? null : update[0];
+    size--;
+    clearUpdate();
+
+    T data = node.data;
+    node.data = null;
+    return data;
+  }
+
+  public boolean remove(Object obj) {
+    int index = indexOf(obj);
+    if (index == -1)
+      return false;
+    removeAt(index);
+    return true;
+  }
+
+  public int indexOf(Object obj) {
+    Node<T> trav = head.next[0];
+    int index = 0;
+    if (obj == null) {
+      while (trav != null) {
+        if (trav.data == null)
+          return index;
+        trav = trav.next[0];
+        index++;
+      }
+    } else {
+      while (trav != null) {
+        if (obj.equals(trav.data))
+          return index;
+        trav = trav.next[0];
+        index++;
+      }
+    }
+    return -1;
+  }
+
+  public boolean contains(Object obj) {
+    return indexOf(obj) != -1;
+  }
+
+  private Node<T> nodeAt(int index) {
+    if (index < 0 || index >= size)
+      throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+    int target = index + 1;
+    Node<T> x = head;
+    int pos = 0;
+    for (int lvl = level - 1; lvl >= 0; lvl--) {
+      while (x.next[lvl] != null && pos + x.width[lvl] <= target) {
+        pos += x.width[lvl];
+        x = x.next[lvl];
+      }
+      if (pos == target)
+        return x;
+    }
+    return x;
+  }
+
+  private static int randomLevel() {
+    // рівень k з імовірністю 2^-k
+    int bits = ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1));
+    return Integer.numberOfTrailingZeros(bits) + 1;
+  }
+
+  private void clearUpdate() {
+    java.util.Arrays.fill(update, 0, level, null);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("[");
+    Node<T> trav = head.next[0];
+    while (trav != null) {
+      sb.append(trav.data);
+      if (trav.next[0] != null)
+        sb.append(", ");
+      trav = trav.next[0];
+    }
+    sb.append("]");
+    return sb.toString();
+  }
+
+  @Override
+  public java.util.Iterator<T> iterator() {
+    return new java.util.Iterator<T>() {
+      private Node<T> trav = head.next[0];
+
+      @Override
+      public boolean hasNext() {
+        return trav != null;
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext())
+          throw new java.util.NoSuchElementException();
+        T data = trav.data;
+        trav = trav.next[0];
+        return data;
+      }
+    };
+  }
+
+  // ---------------- MAIN ----------------
+  public static void main(String[] args) {
+    IndexedSkipList<String> list = new IndexedSkipList<>();
+    list.add("b");
+    list.add("d");
+    list.addFirst("a");
+    list.addAt(2, "c");
+    System.out.println("After adds: " + list); // [a, b, c, d]
+    System.out.println("get(2): " + list.get(2)); // c
+
+    System.out.println("removeAt(1): " + list.removeAt(1)); // b
+    System.out.println("After removeAt: " + list); // [a, c, d]
+
+    IndexedSkipList<Integer> big = new IndexedSkipList<>();
+    for (int i = 0; i < 1_000_000; i++)
+      big.addAt(big.size() / 2, i); // вставка в середину за O(log n)
+    System.out.println("Size: " + big.size() + ", middle: " + big.get(big.size() / 2));
+  }
+}
@@ -1,9 +1,20 @@
 package structures.LinkedLists;
 
+import structures.HashIndex.HashIndex;
+
 public class SinglyLinkedList<T> implements Iterable<T> {
 
   private int size = 0;
   private Node<T> head = null;
+  private Node<T> tail = null;
+
+  // Пул вузлів (див. DoublyLinkedList): видалені вузли перевикористовуються.
+  private final int poolCapacity;
+  private Node<T> pool = null;
+  private int poolSize = 0;
+
+  private HashIndex hashIndex = null; // null, якщо індекс вимкнено
+  private int modCount = 0; // структурні зміни, для fail-fast ітератора
 
   private static class Node<T> {
     T data;
@@ -15,15 +26,52 @@ public class SinglyLinkedList<T> implements Iterable<T> {
     }
   }
 
+  public SinglyLinkedList() {
+    this(0);
+  }
+
+  public SinglyLinkedList(int poolCapacity) {
+    if (poolCapacity < 0)
+      throw new IllegalArgumentException("Illegal pool capacity: " + poolCapacity);
+    this.poolCapacity = poolCapacity;
+  }
+
+  private Node<T> obtainNode(T value, Node<T> next) {
+    modCount++;
+    if (hashIndex != null)
+      hashIndex.add(value);
+    if (pool == null)
+      return new Node<>(value, next);
+    Node<T> node = pool;
+    pool = node.next;
+    poolSize--;
+    node.data = value;
+    node.next = next;
+    return node;
+  }
+
+  private void recycle(Node<T> node) {
+    modCount++;
+    if (hashIndex != null)
+      hashIndex.remove(node.data);
+    node.data = null;
+    if (poolSize < poolCapacity) {
+      node.next = pool;
+      pool = node;
+      poolSize++;
+    } else {
+      node.next = null;
+    }
+  }
+
   public void clear() {
     Node<T> trav = head;
     while (trav != null) {
       Node<T> next = trav.next;
-      trav.next = null;
-      trav.data = null;
+      recycle(trav);
       trav = next;
     }
-    head = null;
+    head = tail = null;
     size = 0;
   }
 
@@ -40,19 +88,19 @@ public class SinglyLinkedList<T> implements Iterable<T> {
   }
 
   public void addFirst(T value) {
-    head = new Node<>(value, head);
+    head = obtainNode(value, head);
+    if (tail == null)
+      tail = head;
     size++;
   }
 
   public void addLast(T value) {
-    Node<T> newNode = new Node<>(value, null);
+    Node<T> newNode = obtainNode(value, null);
     if (isEmpty()) {
-      head = newNode;
+      head = tail = newNode;
     } else {
-      Node<T> trav = head;
-      while (trav.next != null)
-        trav = trav.next;
-      trav.next = newNode;
+      tail.next = newNode;
+      tail = newNode;
     }
     size++;
   }
@@ -64,10 +112,14 @@ public class SinglyLinkedList<T> implements Iterable<T> {
       addFirst(value);
       return;
     }
+    if (index == size) {
+      addLast(value);
+      return;
+    }
     Node<T> prev = head;
     for (int i = 1; i < index; i++)
       prev = prev.next;
-    prev.next = new Node<>(value, prev.next);
+    prev.next = obtainNode(value, prev.next);
     size++;
   }
 
@@ -80,21 +132,25 @@ public class SinglyLinkedList<T> implements Iterable<T> {
   public T getLast() {
     if (isEmpty())
       throw new IllegalStateException("List is empty");
-    Node<T> trav = head;
-    while (trav.next != null)
-      trav = trav.next;
-    return trav.data;
+    return tail.data;
   }
 
   public T removeFirst() {
     if (isEmpty())
       throw new IllegalStateException("List is empty");
-    T data = head.data;
+    Node<T> node = head;
+    T data = node.data;
     head = head.next;
+    recycle(node);
     size--;
+    if (isEmpty())
+      tail = null;
     return data;
   }
 
+  // У однозв'язному списку немає посилання на попередній вузол, тому
+  // removeLast лишається O(n). Якщо потрібно швидко знімати з кінця,
+  // використовуйте DoublyLinkedList або додавайте з addFirst і знімайте removeFirst.
   public T removeLast() {
     if (isEmpty())
       throw new IllegalStateException("List is empty");
@@ -103,8 +159,10 @@ public class SinglyLinkedList<T> implements Iterable<T> {
     Node<T> prev = head;
     while (prev.next.next != null)
       prev = prev.next;
-    T data = prev.next.data;
+    T data = tail.data;
+    recycle(tail);
     prev.next = null;
+    tail = prev;
     size--;
     return data;
   }
@@ -117,13 +175,19 @@ public class SinglyLinkedList<T> implements Iterable<T> {
     Node<T> prev = head;
     for (int i = 1; i < index; i++)
       prev = prev.next;
-    T data = prev.next.data;
-    prev.next = prev.next.next;
+    Node<T> node = prev.next;
+    T data = node.data;
+    prev.next = node.next;
+    recycle(node);
+    if (prev.next == null)
+      tail = prev;
     size--;
     return data;
   }
 
   public boolean remove(Object obj) {
+    if (hashIndex != null && !hashIndex.contains(obj))
+      return false;
     if (isEmpty())
       return false;
     if (obj == null) {
@@ -134,7 +198,11 @@ public class SinglyLinkedList<T> implements Iterable<T> {
       Node<T> prev = head;
       while (prev.next != null) {
         if (prev.next.data == null) {
-          prev.next = prev.next.next;
+          Node<T> node = prev.next;
+          prev.next = node.next;
+          recycle(node);
+          if (prev.next == null)
+            tail = prev;
           size--;
           return true;
         }
@@ -148,7 +216,11 @@ public class SinglyLinkedList<T> implements Iterable<T> {
       Node<T> prev = head;
       while (prev.next != null) {
         if (obj.equals(prev.next.data)) {
-          prev.next = prev.next.next;
+          Node<T> node = prev.next;
+          prev.next = node.next;
+          recycle(node);
+          if (prev.next == null)
+            tail = prev;
           size--;
           return true;
         }
@@ -159,6 +231,8 @@ public class SinglyLinkedList<T> implements Iterable<T> {
   }
 
   public int indexOf(Object obj) {
+    if (hashIndex != null && !hashIndex.contains(obj))
+      return -1;
     Node<T> trav = head;
     int index = 0;
     if (obj == null) {
@@ -180,9 +254,29 @@ public class SinglyLinkedList<T> implements Iterable<T> {
   }
 
   public boolean contains(Object obj) {
+    if (hashIndex != null)
+      return hashIndex.contains(obj);
     return indexOf(obj) != -1;
   }
 
+  // Вмикає хеш-індекс елементів: contains за O(1) ціною пам'яті й
+  // додаткової роботи на кожному додаванні/видаленні.
+  public void enableHashIndex() {
+    if (hashIndex != null)
+      return;
+    hashIndex = new HashIndex(size);
+    for (T value : this)
+      hashIndex.add(value);
+  }
+
+  public void dropHashIndex() {
+    hashIndex = null;
+  }
+
+  public boolean hasHashIndex() {
+    return hashIndex != null;
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder("[");
@@ -201,6 +295,7 @@ public class SinglyLinkedList<T> implements Iterable<T> {
   public java.util.Iterator<T> iterator() {
     return new java.util.Iterator<T>() {
       private Node<T> current = head;
+      private final int expectedModCount = modCount;
 
       @Override
       public boolean hasNext() {
@@ -209,6 +304,8 @@ public class SinglyLinkedList<T> implements Iterable<T> {
 
       @Override
       public T next() {
+        if (modCount != expectedModCount)
+          throw new java.util.ConcurrentModificationException();
         if (!hasNext())
           throw new java.util.NoSuchElementException();
         T data = current.data;
@@ -218,6 +315,21 @@ public class SinglyLinkedList<T> implements Iterable<T> {
     };
   }
 
+  // Вузли можна обійти лише послідовно, тому спліт відрізає пачки
+  // зростаючого розміру (як у java.util.LinkedList).
+  @Override
+  public java.util.Spliterator<T> spliterator() {
+    return java.util.Spliterators.spliterator(iterator(), size, java.util.Spliterator.ORDERED);
+  }
+
+  public java.util.stream.Stream<T> stream() {
+    return java.util.stream.StreamSupport.stream(spliterator(), false);
+  }
+
+  public java.util.stream.Stream<T> parallelStream() {
+    return java.util.stream.StreamSupport.stream(spliterator(), true);
+  }
+
   // -------------- MAIN --------------
   public static void main(String[] args) {
     SinglyLinkedList<Integer> list = new SinglyLinkedList<>();
@@ -0,0 +1,356 @@
+package structures.LinkedLists;
+
+// Розгорнутий зв'язний список: кожен вузол зберігає масив до nodeCapacity
+// елементів. Перебір і пошук йдуть по суцільних масивах (мало кеш-промахів),
+// а вставка в середину зсуває елементи лише в одному вузлі.
+// Переповнений вузол ділиться навпіл; вузол, заповнений менше ніж наполовину,
+// зливається з наступним або позичає в нього елементи.
+public class UnrolledLinkedList<T> implements Iterable<T> {
+
+  private static final int DEFAULT_NODE_CAPACITY = 32;
+
+  private final int nodeCapacity;
+  private int size = 0;
+  private Node<T> head = null;
+  private Node<T> tail = null;
+
+  // зсув елемента всередині вузла, знайденого останнім викликом find
+  private int foundOffset;
+
+  private static class Node<T> {
+    final Object[] items;
+    int count;
+    Node<T> prev, next;
+
+    Node(int capacity) {
+      items = new Object[capacity];
+    }
+  }
+
+  public UnrolledLinkedList() {
+    this(DEFAULT_NODE_CAPACITY);
+  }
+
+  public UnrolledLinkedList(int nodeCapacity) {
+    if (nodeCapacity < 2)
+      throw new IllegalArgumentException("Illegal node capacity: " + nodeCapacity);
+    this.nodeCapacity = nodeCapacity;
+  }
+
+  public void clear() {
+    Node<T> trav = head;
+    while (trav != null) {
+      Node<T> next = trav.next;
+      java.util.Arrays.fill(trav.items, 0, trav.count, null);
+      trav.prev = trav.next = null;
+      trav = next;
+    }
+    head = tail = null;
+    size = 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void add(T value) {
+    addLast(value);
+  }
+
+  public void addFirst(T value) {
+    if (head == null || head.count == nodeCapacity)
+      linkBefore(head, new Node<>(nodeCapacity));
+    insertInto(head, 0, value);
+  }
+
+  public void addLast(T value) {
+    if (tail == null || tail.count == nodeCapacity)
+      linkAfter(tail, new Node<>(nodeCapacity));
+    insertInto(tail, tail.count, value);
+  }
+
+  public void addAt(int index, T value) {
+    if (index < 0 || index > size)
+      throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+    if (index == size) {
+      addLast(value);
+      return;
+    }
+    Node<T> node = find(index);
+    int offset = foundOffset;
+    if (node.count == nodeCapacity) {
+      split(node);
+      if (offset > node.count) {
+        offset -= node.count;
+        node = node.next;
+      }
+    }
+    insertInto(node, offset, value);
+  }
+
+  @SuppressWarnings("unchecked")
+  public T get(int index) {
+    checkIndex(index);
+    Node<T> node = find(index);
+    return (T) node.items[foundOffset];
+  }
+
+  @SuppressWarnings("unchecked")
+  public T set(int index, T value) {
+    checkIndex(index);
+    Node<T> node = find(index);
+    T old = (T) node.items[foundOffset];
+    node.items[foundOffset] = value;
+    return old;
+  }
+
+  @SuppressWarnings("unchecked")
+  public T getFirst() {
+    if (isEmpty())
+      throw new IllegalStateException("List is empty");
+    return (T) head.items[0];
+  }
+
+  @SuppressWarnings("unchecked")
+  public T getLast() {
+    if (isEmpty())
+      throw new IllegalStateException("List is empty");
+    return (T) tail.items[tail.count - 1];
+  }
+
+  public T removeFirst() {
+    if (isEmpty())
+      throw new IllegalStateException("List is empty");
+    return removeFrom(head, 0);
+  }
+
+  public T removeLast() {
+    if (isEmpty())
+      throw new IllegalStateException("List is empty");
+    return removeFrom(tail, tail.count - 1);
+  }
+
+  public T removeAt(int index) {
+    checkIndex(index);
+    Node<T> node = find(index);
+    return removeFrom(node, foundOffset);
+  }
+
+  public boolean remove(Object obj) {
+    for (Node<T> node = head; node != null; node = node.next) {
+      for (int i = 0; i < node.count; i++) {
+        if (obj == null ? node.items[i] == null : obj.equals(node.items[i])) {
+          removeFrom(node, i);
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  public int indexOf(Object obj) {
+    int base = 0;
+    for (Node<T> node = head; node != null; node = node.next) {
+      Object[] items = node.items;
+      int count = node.count;
+      if (obj == null) {
+        for (int i = 0; i < count; i++)
+          if (items[i] == null)
+            return base + i;
+      } else {
+        for (int i = 0; i < count; i++)
+          if (obj.equals(items[i]))
+            return base + i;
+      }
+      base += count;
+    }
+    return -1;
+  }
+
+  public boolean contains(Object obj) {
+    return indexOf(obj) != -1;
+  }
+
+  // Знаходить вузол з елементом index, обходячи з ближчого кінця.
+  private Node<T> find(int index) {
+    if (index < size / 2) {
+      Node<T> node = head;
+      while (index >= node.count) {
+        index -= node.count;
+        node = node.next;
+      }
+      foundOffset = index;
+      return node;
+    }
+    Node<T> node = tail;
+    int fromEnd = size - 1 - index;
+    while (fromEnd >= node.count) {
+      fromEnd -= node.count;
+      node = node.prev;
+    }
+    foundOffset = node.count - 1 - fromEnd;
+    return node;
+  }
+
+  private void insertInto(Node<T> node, int offset, T value) {
+    System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+    node.items[offset] = value;
+    node.count++;
+    size++;
+  }
+
+  @SuppressWarnings("unchecked")
+  private T removeFrom(Node<T> node, int offset) {
+    T data = (T) node.items[offset];
+    System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+    node.items[--node.count] = null;
+    size--;
+
+    if (node.count == 0) {
+      unlink(node);
+    } else if (node.count < nodeCapacity / 2 && node.next != null) {
+      Node<T> next = node.next;
+      if (node.count + next.count <= nodeCapacity) {
+        // злиття з наступним вузлом
+        System.arraycopy(next.items, 0, node.items, node.count, next.count);
+        node.count += next.count;
+        unlink(next);
+      } else {
+        // позичаємо елементи в наступного, щоб обидва були заповнені хоча б наполовину
+        int move = (next.count - node.count) / 2;
+        System.arraycopy(next.items, 0, node.items, node.count, move);
+        node.count += move;
+        System.arraycopy(next.items, move, next.items, 0, next.count - move);
+        java.util.Arrays.fill(next.items, next.count - move, next.count, null);
+        next.count -= move;
+      }
+    }
+    return data;
+  }
+
+  // Переносить другу половину вузла в новий вузол одразу за ним.
+  private void split(Node<T> node) {
+    Node<T> right = new Node<>(nodeCapacity);
+    int half = node.count / 2;
+    int moved = node.count - half;
+    System.arraycopy(node.items, half, right.items, 0, moved);
+    java.util.Arrays.fill(node.items, half, node.count, null);
+    right.count = moved;
+    node.count = half;
+    linkAfter(node, right);
+  }
+
+  private void linkBefore(Node<T> successor, Node<T> node) {
+    if (successor == null) {
+      head = tail = node;
+      return;
+    }
+    node.next = successor;
+    node.prev = successor.prev;
+    if (successor.prev == null)
+      head = node;
+    else
+      successor.prev.next = node;
+    successor.prev = node;
+  }
+
+  private void linkAfter(Node<T> predecessor, Node<T> node) {
+    if (predecessor == null) {
+      head = tail = node;
+      return;
+    }
+    node.prev = predecessor;
+    node.next = predecessor.next;
+    if (predecessor.next == null)
+      tail = node;
+    else
+      predecessor.next.prev = node;
+    predecessor.next = node;
+  }
+
+  private void unlink(Node<T> node) {
+    if (node.prev == null)
+      head = node.next;
+    else
+      node.prev.next = node.next;
+    if (node.next == null)
+      tail = node.prev;
+    else
+      node.next.prev = node.prev;
+    node.prev = node.next = null;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size)
+      throw new IndexOutOfBoundsException("Index " + index + " is out of bounds.");
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("[");
+    for (Node<T> node = head; node != null; node = node.next) {
+      for (int i = 0; i < node.count; i++) {
+        sb.append(node.items[i]);
+        if (i < node.count - 1 || node.next != null)
+          sb.append(", ");
+      }
+    }
+    sb.append("]");
+    return sb.toString();
+  }
+
+  @Override
+  public java.util.Iterator<T> iterator() {
+    return new java.util.Iterator<T>() {
+      private Node<T> node = head;
+      private int offset = 0;
+
+      @Override
+      public boolean hasNext() {
+        return node != null;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public T next() {
+        if (!hasNext())
+          throw new java.util.NoSuchElementException();
+        T data = (T) node.items[offset++];
+        if (offset == node.count) {
+          node = node.next;
+          offset = 0;
+        }
+        return data;
+      }
+    };
+  }
+
+  // ---------------- MAIN ----------------
+  public static void main(String[] args) {
+    UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(4);
+    for (int i = 1; i <= 10; i++)
+      list.add(i * 10);
+    System.out.println("After adds: " + list); // [10, 20, ..., 100]
+
+    list.addAt(2, 25); // вузол переповнений -> ділиться навпіл
+    System.out.println("After addAt(2, 25): " + list);
+    System.out.println("get(3): " + list.get(3)); // 30
+
+    System.out.println("removeAt(0): " + list.removeAt(0)); // 10
+    list.remove((Integer) 70);
+    System.out.println("After removes: " + list);
+    System.out.println("indexOf(100): " + list.indexOf(100));
+
+    System.out.print("Iterating: ");
+    for (int val : list)
+      System.out.print(val + " ");
+    System.out.println();
+
+    list.clear();
+    System.out.println("After clear, isEmpty: " + list.isEmpty());
+  }
+}
@@ -0,0 +1,81 @@
+package structures.Parallel;
+
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+// Spliterator для структур з доступом за індексом (масиви, кільцеві буфери).
+// Ділить діапазон [index, fence) навпіл, тож паралельний stream отримує
+// рівні шматки точного розміру.
+public class IndexedSpliterator<T> implements Spliterator<T> {
+
+  private final IntFunction<? extends T> getter;
+  private int index;
+  private final int fence;
+  // Необов'язковий лічильник змін структури (null - без перевірки) і його
+  // значення на момент створення: fail-fast, як у ітератора.
+  private final IntSupplier modCount;
+  private final int expectedModCount;
+
+  public IndexedSpliterator(IntFunction<? extends T> getter, int from, int to) {
+    this(getter, from, to, null);
+  }
+
+  public IndexedSpliterator(IntFunction<? extends T> getter, int from, int to, IntSupplier modCount) {
+    this(getter, from, to, modCount, modCount == null ? 0 : modCount.getAsInt());
+  }
+
+  private IndexedSpliterator(IntFunction<? extends T> getter, int from, int to,
+      IntSupplier modCount, int expectedModCount) {
+    this.getter = getter;
+    this.index = from;
+    this.fence = to;
+    this.modCount = modCount;
+    this.expectedModCount = expectedModCount;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (index >= fence)
+      return false;
+    action.accept(getter.apply(index++));
+    checkForComodification();
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    int i = index;
+    index = fence;
+    for (; i < fence; i++)
+      action.accept(getter.apply(i));
+    checkForComodification();
+  }
+
+  private void checkForComodification() {
+    if (modCount != null && modCount.getAsInt() != expectedModCount)
+      throw new ConcurrentModificationException();
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    int mid = (index + fence) >>> 1;
+    if (mid <= index)
+      return null;
+    Spliterator<T> prefix = new IndexedSpliterator<>(getter, index, mid, modCount, expectedModCount);
+    index = mid;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return fence - index;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | SIZED | SUBSIZED;
+  }
+}
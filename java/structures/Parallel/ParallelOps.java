@@ -0,0 +1,104 @@
+package structures.Parallel;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+// Паралельний обхід будь-якої структури через її spliterator у ForkJoinPool.
+// Структура ділиться, поки шматок більший за поріг, далі обробляється
+// послідовно. Під час обходу структуру не можна змінювати.
+public final class ParallelOps {
+
+  private static final int MIN_CHUNK = 1024;
+
+  private ParallelOps() {
+  }
+
+  public static <T> void parallelForEach(Iterable<T> source, Consumer<? super T> action) {
+    Spliterator<T> spliterator = source.spliterator();
+    ForkJoinPool.commonPool().invoke(new ForEachTask<>(spliterator, action, threshold(spliterator)));
+  }
+
+  // accumulator згортає елементи одного шматка, combiner об'єднує результати
+  // шматків; identity має бути нейтральним для combiner.
+  public static <T, R> R parallelReduce(Iterable<T> source, R identity,
+      BiFunction<R, ? super T, R> accumulator, BinaryOperator<R> combiner) {
+    Spliterator<T> spliterator = source.spliterator();
+    return ForkJoinPool.commonPool().invoke(
+        new ReduceTask<>(spliterator, identity, accumulator, combiner, threshold(spliterator)));
+  }
+
+  private static long threshold(Spliterator<?> spliterator) {
+    long size = spliterator.estimateSize();
+    if (size == Long.MAX_VALUE)
+      return MIN_CHUNK;
+    return Math.max(MIN_CHUNK, size / (ForkJoinPool.getCommonPoolParallelism() * 4L));
+  }
+
+  @SuppressWarnings("serial")
+  private static final class ForEachTask<T> extends RecursiveAction {
+    private final Spliterator<T> spliterator;
+    private final Consumer<? super T> action;
+    private final long threshold;
+
+    ForEachTask(Spliterator<T> spliterator, Consumer<? super T> action, long threshold) {
+      this.spliterator = spliterator;
+      this.action = action;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      Spliterator<T> prefix;
+      if (spliterator.estimateSize() > threshold && (prefix = spliterator.trySplit()) != null) {
+        ForEachTask<T> left = new ForEachTask<>(prefix, action, threshold);
+        left.fork();
+        new ForEachTask<>(spliterator, action, threshold).compute();
+        left.join();
+      } else {
+        spliterator.forEachRemaining(action);
+      }
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private static final class ReduceTask<T, R> extends RecursiveTask<R> {
+    private final Spliterator<T> spliterator;
+    private final R identity;
+    private final BiFunction<R, ? super T, R> accumulator;
+    private final BinaryOperator<R> combiner;
+    private final long threshold;
+
+    ReduceTask(Spliterator<T> spliterator, R identity, BiFunction<R, ? super T, R> accumulator,
+        BinaryOperator<R> combiner, long threshold) {
+      this.spliterator = spliterator;
+      this.identity = identity;
+      this.accumulator = accumulator;
+      this.combiner = combiner;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected R compute() {
+      Spliterator<T> prefix;
+      if (spliterator.estimateSize() > threshold && (prefix = spliterator.trySplit()) != null) {
+        ReduceTask<T, R> left = new ReduceTask<>(prefix, identity, accumulator, combiner, threshold);
+        left.fork();
+        R right = new ReduceTask<>(spliterator, identity, accumulator, combiner, threshold).compute();
+        return combiner.apply(left.join(), right);
+      }
+      Object[] result = { identity };
+      spliterator.forEachRemaining(elem -> result[0] = accumulator.apply(cast(result[0]), elem));
+      return cast(result[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private R cast(Object value) {
+      return (R) value;
+    }
+  }
+}
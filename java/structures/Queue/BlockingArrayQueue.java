@@ -0,0 +1,277 @@
+package structures.Queue;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Обмежена блокуюча черга поверх кільця StaticArrayQueue. Замість опитування
+// isEmpty() чи перехоплення "Queue is full" потоки засинають на окремих
+// умовах notEmpty/notFull. ReentrantLock замість synchronized: віртуальні
+// потоки паркуються на ньому, не закріплюючи потік-носій.
+public class BlockingArrayQueue<T> implements Iterable<T> {
+
+  private final StaticArrayQueue<T> ring;
+  private final ReentrantLock lock;
+  private final Condition notEmpty;
+  private final Condition notFull;
+
+  public BlockingArrayQueue(int capacity) {
+    this(capacity, false);
+  }
+
+  // fair = true: потоки отримують замок у порядку черги (повільніше).
+  public BlockingArrayQueue(int capacity, boolean fair) {
+    if (capacity < 1)
+      throw new IllegalArgumentException("Illegal capacity: " + capacity);
+    ring = new StaticArrayQueue<>(capacity);
+    lock = new ReentrantLock(fair);
+    notEmpty = lock.newCondition();
+    notFull = lock.newCondition();
+  }
+
+  public int capacity() {
+    return ring.capacity();
+  }
+
+  public int size() {
+    lock.lock();
+    try {
+      return ring.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public int remainingCapacity() {
+    lock.lock();
+    try {
+      return ring.capacity() - ring.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Викликати лише під замком.
+  private void insert(T elem) {
+    ring.enqueue(elem);
+    notEmpty.signal();
+  }
+
+  private T extract() {
+    T elem = ring.dequeue();
+    notFull.signal();
+    return elem;
+  }
+
+  public boolean offer(T elem) {
+    checkNotNull(elem);
+    lock.lock();
+    try {
+      if (ring.isFull())
+        return false;
+      insert(elem);
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public boolean offer(T elem, long timeout, TimeUnit unit) throws InterruptedException {
+    checkNotNull(elem);
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (ring.isFull()) {
+        if (nanos <= 0)
+          return false;
+        nanos = notFull.awaitNanos(nanos);
+      }
+      insert(elem);
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void put(T elem) throws InterruptedException {
+    checkNotNull(elem);
+    lock.lockInterruptibly();
+    try {
+      while (ring.isFull())
+        notFull.await();
+      insert(elem);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Повертає null, якщо черга порожня.
+  public T poll() {
+    lock.lock();
+    try {
+      return ring.isEmpty() ? null : extract();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (ring.isEmpty()) {
+        if (nanos <= 0)
+          return null;
+        nanos = notEmpty.awaitNanos(nanos);
+      }
+      return extract();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public T take() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (ring.isEmpty())
+        notEmpty.await();
+      return extract();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Повертає null, якщо черга порожня.
+  public T peek() {
+    lock.lock();
+    try {
+      return ring.isEmpty() ? null : ring.peek();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Неблокуючі варіанти з винятками, як у StaticArrayQueue.
+  public void enqueue(T elem) {
+    if (!offer(elem))
+      throw new IllegalStateException("Queue is full");
+  }
+
+  public T dequeue() {
+    T elem = poll();
+    if (elem == null)
+      throw new NoSuchElementException("Queue is empty");
+    return elem;
+  }
+
+  // Переносить до maxElements елементів за одне захоплення замка.
+  public int drainTo(Collection<? super T> target, int maxElements) {
+    if (target == null)
+      throw new NullPointerException();
+    if (maxElements <= 0)
+      return 0;
+    lock.lock();
+    try {
+      int count = Math.min(maxElements, ring.size());
+      for (int i = 0; i < count; i++)
+        target.add(ring.dequeue());
+      // будимо стільки виробників, скільки звільнилося місць
+      for (int i = count; i > 0 && lock.hasWaiters(notFull); i--)
+        notFull.signal();
+      return count;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int drainTo(Collection<? super T> target) {
+    return drainTo(target, Integer.MAX_VALUE);
+  }
+
+  public void clear() {
+    lock.lock();
+    try {
+      while (!ring.isEmpty())
+        ring.dequeue();
+      notFull.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static void checkNotNull(Object elem) {
+    if (elem == null)
+      throw new NullPointerException();
+  }
+
+  // Ітерує знімок, зроблений під замком: не блокує чергу під час обходу.
+  @Override
+  @SuppressWarnings("unchecked")
+  public java.util.Iterator<T> iterator() {
+    Object[] snapshot;
+    lock.lock();
+    try {
+      snapshot = ring.stream().toArray();
+    } finally {
+      lock.unlock();
+    }
+    return new java.util.Iterator<T>() {
+      int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return index < snapshot.length;
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+        return (T) snapshot[index++];
+      }
+    };
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    BlockingArrayQueue<Integer> queue = new BlockingArrayQueue<>(16);
+
+    int producers = 4;
+    int perProducer = 100_000;
+    Thread[] threads = new Thread[producers];
+    for (int p = 0; p < producers; p++) {
+      threads[p] = new Thread(() -> {
+        try {
+          for (int i = 1; i <= perProducer; i++)
+            queue.put(i);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      threads[p].start();
+    }
+
+    long sum = 0;
+    int received = 0;
+    java.util.List<Integer> batch = new java.util.ArrayList<>();
+    while (received < producers * perProducer) {
+      Integer first = queue.take();
+      sum += first;
+      received++;
+      received += queue.drainTo(batch, 64);
+      for (int elem : batch)
+        sum += elem;
+      batch.clear();
+    }
+    for (Thread t : threads)
+      t.join();
+
+    System.out.println("Sum: " + sum); // 4 * 100000 * 100001 / 2 = 20000200000
+    System.out.println("Poll with timeout: " + queue.poll(10, TimeUnit.MILLISECONDS)); // null
+  }
+}
@@ -0,0 +1,176 @@
+package structures.Queue;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import structures.Parallel.IndexedSpliterator;
+
+// Двостороння черга на кільцевому масиві, що росте.
+// Ємність завжди степінь двійки, тому індекс обчислюється маскою, а при
+// розширенні дані копіюються двома відрізками (від head до кінця масиву і
+// від початку масиву до tail).
+public class CircularArrayDeque<T> implements Iterable<T> {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private T[] data;
+  private int head = 0; // індекс першого елемента
+  private int size = 0;
+
+  public CircularArrayDeque() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  @SuppressWarnings("unchecked")
+  public CircularArrayDeque(int initialCapacity) {
+    if (initialCapacity < 0 || initialCapacity > (1 << 30))
+      throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+    int capacity = initialCapacity <= 1 ? 1 : Integer.highestOneBit(initialCapacity - 1) << 1;
+    data = (T[]) new Object[capacity];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void clear() {
+    for (int i = 0; i < size; i++)
+      data[(head + i) & (data.length - 1)] = null;
+    head = 0;
+    size = 0;
+  }
+
+  public void addFirst(T elem) {
+    if (size == data.length)
+      grow();
+    head = (head - 1) & (data.length - 1);
+    data[head] = elem;
+    size++;
+  }
+
+  public void addLast(T elem) {
+    if (size == data.length)
+      grow();
+    data[(head + size) & (data.length - 1)] = elem;
+    size++;
+  }
+
+  // pollFirst/pollLast повертають null, якщо черга порожня.
+  public T pollFirst() {
+    if (isEmpty())
+      return null;
+    T elem = data[head];
+    data[head] = null; // очищення для збору сміття
+    head = (head + 1) & (data.length - 1);
+    size--;
+    return elem;
+  }
+
+  public T pollLast() {
+    if (isEmpty())
+      return null;
+    int tail = (head + size - 1) & (data.length - 1);
+    T elem = data[tail];
+    data[tail] = null;
+    size--;
+    return elem;
+  }
+
+  public T removeFirst() {
+    if (isEmpty())
+      throw new NoSuchElementException("Deque is empty");
+    return pollFirst();
+  }
+
+  public T removeLast() {
+    if (isEmpty())
+      throw new NoSuchElementException("Deque is empty");
+    return pollLast();
+  }
+
+  public T peekFirst() {
+    return isEmpty() ? null : data[head];
+  }
+
+  public T peekLast() {
+    return isEmpty() ? null : data[(head + size - 1) & (data.length - 1)];
+  }
+
+  @SuppressWarnings("unchecked")
+  private void grow() {
+    if (data.length == (1 << 30))
+      throw new IllegalStateException("Deque is too large");
+    T[] newData = (T[]) new Object[data.length * 2];
+    int firstPart = Math.min(size, data.length - head);
+    System.arraycopy(data, head, newData, 0, firstPart);
+    System.arraycopy(data, 0, newData, firstPart, size - firstPart);
+    data = newData;
+    head = 0;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new Iterator<T>() {
+      int count = 0;
+
+      public boolean hasNext() {
+        return count < size;
+      }
+
+      public T next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+        return data[(head + count++) & (data.length - 1)];
+      }
+    };
+  }
+
+  @Override
+  public Spliterator<T> spliterator() {
+    T[] array = data;
+    int start = head;
+    int mask = array.length - 1;
+    return new IndexedSpliterator<>(i -> array[(start + i) & mask], 0, size);
+  }
+
+  public Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  public Stream<T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("[");
+    for (int i = 0; i < size; i++) {
+      sb.append(data[(head + i) & (data.length - 1)]);
+      if (i < size - 1)
+        sb.append(", ");
+    }
+    sb.append("]");
+    return sb.toString();
+  }
+
+  public static void main(String[] args) {
+    CircularArrayDeque<Integer> deque = new CircularArrayDeque<>(2);
+    deque.addLast(2);
+    deque.addLast(3);
+    deque.addFirst(1); // розширення: кільце копіюється двома відрізками
+    deque.addLast(4);
+    System.out.println("Deque: " + deque); // [1, 2, 3, 4]
+
+    System.out.println("pollFirst: " + deque.pollFirst()); // 1
+    System.out.println("pollLast: " + deque.pollLast()); // 4
+    System.out.println("Deque: " + deque); // [2, 3]
+    System.out.println("Size: " + deque.size()); // 2
+  }
+}
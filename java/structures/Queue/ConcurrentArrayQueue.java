@@ -0,0 +1,172 @@
+package structures.Queue;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+// Обмежена lock-free черга для багатьох виробників і споживачів (MPMC).
+// Та сама кільцева розкладка, що й у StaticArrayQueue, але кожна комірка має
+// свій номер послідовності (алгоритм Д. Вьюкова):
+//   sequence == pos       -> комірка вільна для виробника з позицією pos
+//   sequence == pos + 1   -> комірка заповнена для споживача з позицією pos
+// Ємність округлюється до степеня двійки, щоб замість % брати маску, і
+// щонайменше до 2: з однією коміркою опублікований номер pos + 1 збігся б
+// з позицією наступного виробника. Тому capacity() може бути більшою за
+// запитану.
+public class ConcurrentArrayQueue<T> {
+
+  private static final int SPINS_BEFORE_PARK = 64;
+  private static final long MIN_PARK_NANOS = 1_000;
+  private static final long MAX_PARK_NANOS = 1_000_000; // 1 мс
+
+  // head і tail у різних об'єктах з доповненням, щоб не ділити кеш-лінію
+  private final PaddedCounter head = new PaddedCounter();
+  private final PaddedCounter tail = new PaddedCounter();
+  private final Object[] data;
+  private final AtomicLongArray sequences;
+  private final int mask;
+
+  public ConcurrentArrayQueue(int capacity) {
+    if (capacity < 1 || capacity > (1 << 30))
+      throw new IllegalArgumentException("Illegal capacity: " + capacity);
+    int actual = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+    data = new Object[actual];
+    sequences = new AtomicLongArray(actual);
+    for (int i = 0; i < actual; i++)
+      sequences.set(i, i);
+    mask = actual - 1;
+  }
+
+  // Фактична ємність: запитана, округлена вгору до степеня двійки (мінімум 2).
+  public int capacity() {
+    return data.length;
+  }
+
+  public int size() {
+    while (true) {
+      long h = head.get();
+      long t = tail.get();
+      if (h == head.get())
+        return (int) Math.max(0, Math.min(t - h, data.length));
+    }
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  public boolean offer(T elem) {
+    if (elem == null)
+      throw new NullPointerException();
+    long pos = tail.get();
+    while (true) {
+      int index = (int) pos & mask;
+      long diff = sequences.get(index) - pos;
+      if (diff == 0) {
+        if (tail.compareAndSet(pos, pos + 1)) {
+          data[index] = elem;
+          sequences.set(index, pos + 1); // публікація елемента
+          return true;
+        }
+        pos = tail.get();
+      } else if (diff < 0) {
+        return false; // черга заповнена
+      } else {
+        pos = tail.get();
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public T poll() {
+    long pos = head.get();
+    while (true) {
+      int index = (int) pos & mask;
+      long diff = sequences.get(index) - (pos + 1);
+      if (diff == 0) {
+        if (head.compareAndSet(pos, pos + 1)) {
+          T elem = (T) data[index];
+          data[index] = null; // очищення для збору сміття
+          sequences.set(index, pos + mask + 1); // комірка вільна на наступному колі
+          return elem;
+        }
+        pos = head.get();
+      } else if (diff < 0) {
+        return null; // черга порожня
+      } else {
+        pos = head.get();
+      }
+    }
+  }
+
+  public void enqueue(T elem) {
+    if (!offer(elem))
+      throw new IllegalStateException("Queue is full");
+  }
+
+  public T dequeue() {
+    T elem = poll();
+    if (elem == null)
+      throw new NoSuchElementException("Queue is empty");
+    return elem;
+  }
+
+  // Блокуючі варіанти: коротке очікування, потім паркування потоку з
+  // експоненційно зростаючою паузою (від 1 мкс до 1 мс), щоб довго
+  // заблокований потік не прокидався щомікросекунди.
+  public void put(T elem) throws InterruptedException {
+    int spins = 0;
+    while (!offer(elem))
+      spins = backoff(spins);
+  }
+
+  public T take() throws InterruptedException {
+    int spins = 0;
+    T elem;
+    while ((elem = poll()) == null)
+      spins = backoff(spins);
+    return elem;
+  }
+
+  private static int backoff(int spins) throws InterruptedException {
+    if (Thread.interrupted())
+      throw new InterruptedException();
+    if (spins < SPINS_BEFORE_PARK) {
+      Thread.onSpinWait();
+      return spins + 1;
+    }
+    int doublings = spins - SPINS_BEFORE_PARK;
+    long nanos = Math.min(MAX_PARK_NANOS, MIN_PARK_NANOS << Math.min(doublings, 10));
+    LockSupport.parkNanos(nanos);
+    return nanos < MAX_PARK_NANOS ? spins + 1 : spins;
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    ConcurrentArrayQueue<Integer> queue = new ConcurrentArrayQueue<>(1000);
+    System.out.println("Capacity: " + queue.capacity()); // 1024
+
+    int producers = 4;
+    int perProducer = 100_000;
+    Thread[] threads = new Thread[producers];
+    for (int p = 0; p < producers; p++) {
+      threads[p] = new Thread(() -> {
+        try {
+          for (int i = 1; i <= perProducer; i++)
+            queue.put(i);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      threads[p].start();
+    }
+
+    long sum = 0;
+    for (int i = 0; i < producers * perProducer; i++)
+      sum += queue.take();
+    for (Thread t : threads)
+      t.join();
+
+    System.out.println("Sum: " + sum); // 4 * 100000 * 100001 / 2 = 20000200000
+    System.out.println("Empty: " + queue.isEmpty()); // true
+  }
+}
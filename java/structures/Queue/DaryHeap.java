@@ -0,0 +1,261 @@
+package structures.Queue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import structures.DynamicArray.DynamicArray;
+
+// Черга з пріоритетом на d-арній купі в масиві: нащадки вузла i лежать у
+// d*i+1 .. d*i+d. Більше d — нижча купа і дешевші add/decreaseKey, але
+// дорожчий poll (d порівнянь на рівень); d = 4 зазвичай найкраще для кешу.
+// add повертає дескриптор, через який елемент можна видалити або зменшити
+// його ключ за O(log_d n), без пошуку.
+public class DaryHeap<T> {
+
+  private static final int DEFAULT_ARITY = 4;
+  private static final int DEFAULT_CAPACITY = 16;
+
+  // Непрозорий дескриптор елемента купи; недійсний після видалення.
+  public interface Handle<T> {
+    T value();
+  }
+
+  private static class Entry<T> implements Handle<T> {
+    T value;
+    int index; // позиція в масиві купи, -1 після видалення
+    DaryHeap<T> owner;
+
+    Entry(T value, DaryHeap<T> owner) {
+      this.value = value;
+      this.owner = owner;
+    }
+
+    @Override
+    public T value() {
+      return value;
+    }
+  }
+
+  private final int arity;
+  private final Comparator<? super T> comparator;
+  private Entry<T>[] heap;
+  // Копія значень у порядку купи: порівняння при просіюванні не ходять
+  // по посиланнях на Entry.
+  private Object[] keys;
+  private int size = 0;
+
+  public DaryHeap() {
+    this(DEFAULT_ARITY, null);
+  }
+
+  // comparator == null означає природний порядок (Comparable).
+  public DaryHeap(int arity, Comparator<? super T> comparator) {
+    if (arity < 2)
+      throw new IllegalArgumentException("Illegal arity: " + arity);
+    this.arity = arity;
+    if (comparator == null) {
+      @SuppressWarnings("unchecked")
+      Comparator<? super T> natural = (a, b) -> ((Comparable<Object>) a).compareTo(b);
+      comparator = natural;
+    }
+    this.comparator = comparator;
+    @SuppressWarnings("unchecked")
+    Entry<T>[] heap = (Entry<T>[]) new Entry<?>[DEFAULT_CAPACITY];
+    this.heap = heap;
+    keys = new Object[DEFAULT_CAPACITY];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public Handle<T> add(T value) {
+    ensureCapacity(size + 1);
+    Entry<T> entry = new Entry<>(value, this);
+    place(entry, size);
+    size++;
+    siftUp(entry.index);
+    return entry;
+  }
+
+  // Додає всі елементи одразу. Якщо пачка не менша за купу, купа
+  // перебудовується знизу вгору (Флойд) за O(n) замість O(n log n).
+  // Повертає дескриптори в порядку values.
+  public DynamicArray<Handle<T>> addAll(DynamicArray<? extends T> values) {
+    int count = values.size();
+    DynamicArray<Handle<T>> handles = new DynamicArray<>(count);
+    ensureCapacity(size + count);
+    boolean rebuild = count >= size;
+    for (int i = 0; i < count; i++) {
+      Entry<T> entry = new Entry<>(values.get(i), this);
+      place(entry, size);
+      size++;
+      if (!rebuild)
+        siftUp(entry.index);
+      handles.add(entry);
+    }
+    if (rebuild && size > 1)
+      heapify();
+    return handles;
+  }
+
+  public static <T> DaryHeap<T> heapify(DynamicArray<? extends T> values, int arity,
+      Comparator<? super T> comparator) {
+    DaryHeap<T> heap = new DaryHeap<>(arity, comparator);
+    heap.addAll(values);
+    return heap;
+  }
+
+  // Повертає null, якщо купа порожня.
+  public T peek() {
+    return size == 0 ? null : heap[0].value;
+  }
+
+  // Повертає null, якщо купа порожня.
+  public T poll() {
+    if (size == 0)
+      return null;
+    return removeEntry(heap[0]);
+  }
+
+  public T removeMin() {
+    if (size == 0)
+      throw new IllegalStateException("Heap is empty");
+    return removeEntry(heap[0]);
+  }
+
+  public T remove(Handle<T> handle) {
+    return removeEntry(checkHandle(handle));
+  }
+
+  // Новий ключ має бути не більшим за поточний.
+  public void decreaseKey(Handle<T> handle, T newValue) {
+    Entry<T> entry = checkHandle(handle);
+    if (comparator.compare(newValue, entry.value) > 0)
+      throw new IllegalArgumentException("New key is greater than current key");
+    entry.value = newValue;
+    keys[entry.index] = newValue;
+    siftUp(entry.index);
+  }
+
+  public boolean contains(Handle<T> handle) {
+    return handle instanceof Entry && ((Entry<T>) handle).owner == this;
+  }
+
+  public void clear() {
+    for (int i = 0; i < size; i++) {
+      heap[i].owner = null;
+      heap[i].index = -1;
+      heap[i] = null;
+      keys[i] = null;
+    }
+    size = 0;
+  }
+
+  private T removeEntry(Entry<T> entry) {
+    int index = entry.index;
+    Entry<T> last = heap[--size];
+    heap[size] = null;
+    keys[size] = null;
+    if (index != size) {
+      place(last, index);
+      siftDown(index);
+      if (heap[index] == last)
+        siftUp(index);
+    }
+    entry.owner = null;
+    entry.index = -1;
+    return entry.value;
+  }
+
+  private Entry<T> checkHandle(Handle<T> handle) {
+    if (!contains(handle))
+      throw new IllegalArgumentException("Handle does not belong to this heap");
+    return (Entry<T>) handle;
+  }
+
+  private void heapify() {
+    for (int i = (size - 2) / arity; i >= 0; i--)
+      siftDown(i);
+  }
+
+  private void place(Entry<T> entry, int index) {
+    heap[index] = entry;
+    keys[index] = entry.value;
+    entry.index = index;
+  }
+
+  @SuppressWarnings("unchecked")
+  private int compare(int i, int j) {
+    return comparator.compare((T) keys[i], (T) keys[j]);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void siftUp(int index) {
+    Entry<T> entry = heap[index];
+    T key = entry.value;
+    while (index > 0) {
+      int parent = (index - 1) / arity;
+      if (comparator.compare(key, (T) keys[parent]) >= 0)
+        break;
+      place(heap[parent], index);
+      index = parent;
+    }
+    place(entry, index);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void siftDown(int index) {
+    Entry<T> entry = heap[index];
+    T key = entry.value;
+    while (true) {
+      int first = arity * index + 1;
+      if (first >= size)
+        break;
+      int end = Math.min(first + arity, size);
+      int min = first;
+      for (int child = first + 1; child < end; child++)
+        if (compare(child, min) < 0)
+          min = child;
+      if (comparator.compare((T) keys[min], key) >= 0)
+        break;
+      place(heap[min], index);
+      index = min;
+    }
+    place(entry, index);
+  }
+
+  private void ensureCapacity(int minCapacity) {
+    if (minCapacity > heap.length) {
+      int capacity = Math.max(heap.length * 2, minCapacity);
+      heap = Arrays.copyOf(heap, capacity);
+      keys = Arrays.copyOf(keys, capacity);
+    }
+  }
+
+  public static void main(String[] args) {
+    DaryHeap<Integer> heap = new DaryHeap<>();
+    heap.add(50);
+    Handle<Integer> h = heap.add(40);
+    heap.add(30);
+    Handle<Integer> gone = heap.add(20);
+
+    heap.decreaseKey(h, 10);
+    heap.remove(gone);
+    System.out.println("Peek: " + heap.peek()); // 10
+
+    DynamicArray<Integer> batch = new DynamicArray<>();
+    for (int i = 9; i >= 1; i -= 2)
+      batch.add(i);
+    heap.addAll(batch);
+
+    StringBuilder sb = new StringBuilder();
+    while (!heap.isEmpty())
+      sb.append(heap.poll()).append(' ');
+    System.out.println(sb.toString().trim()); // 1 3 5 7 9 10 30 50
+  }
+}
@@ -0,0 +1,188 @@
+package structures.Queue;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Необмежена lock-free черга Майкла—Скотта. Голова завжди вказує на
+// фіктивний вузол, елементи лежать після нього. enqueue приєднує вузол до
+// tail.next одним CAS, а потім пересуває tail; якщо інший потік бачить, що
+// tail відстає, він допомагає його пересунути, тож жоден потік не чекає на
+// інший. На відміну від ConcurrentArrayQueue, ємність не обмежена.
+public class LinkedConcurrentQueue<T> implements Iterable<T> {
+
+  private static class Node<T> {
+    volatile T elem; // обнуляється після dequeue
+    final AtomicReference<Node<T>> next = new AtomicReference<>();
+
+    Node(T elem) {
+      this.elem = elem;
+    }
+  }
+
+  private final AtomicReference<Node<T>> head;
+  private final AtomicReference<Node<T>> tail;
+
+  // Лічильники конкуренції: невдалі CAS і допомога з відсталим tail.
+  private final LongAdder casFailures = new LongAdder();
+  private final LongAdder tailHelps = new LongAdder();
+
+  public LinkedConcurrentQueue() {
+    Node<T> dummy = new Node<>(null);
+    head = new AtomicReference<>(dummy);
+    tail = new AtomicReference<>(dummy);
+  }
+
+  // O(n): обходить поточний ланцюжок вузлів.
+  public int size() {
+    int size = 0;
+    for (Node<T> node = head.get().next.get(); node != null; node = node.next.get())
+      if (node.elem != null)
+        size++;
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return head.get().next.get() == null;
+  }
+
+  public boolean offer(T elem) {
+    if (elem == null)
+      throw new NullPointerException();
+    Node<T> node = new Node<>(elem);
+    while (true) {
+      Node<T> last = tail.get();
+      Node<T> next = last.next.get();
+      if (last != tail.get())
+        continue;
+      if (next == null) {
+        if (last.next.compareAndSet(null, node)) {
+          tail.compareAndSet(last, node); // не страшно, якщо не вдасться
+          return true;
+        }
+        casFailures.increment();
+      } else {
+        tailHelps.increment();
+        tail.compareAndSet(last, next);
+      }
+    }
+  }
+
+  // Повертає null, якщо черга порожня.
+  public T poll() {
+    while (true) {
+      Node<T> first = head.get();
+      Node<T> last = tail.get();
+      Node<T> next = first.next.get();
+      if (first != head.get())
+        continue;
+      if (next == null)
+        return null;
+      if (first == last) {
+        tailHelps.increment();
+        tail.compareAndSet(last, next);
+        continue;
+      }
+      T elem = next.elem;
+      if (head.compareAndSet(first, next)) {
+        next.elem = null; // next став фіктивним вузлом
+        return elem;
+      }
+      casFailures.increment();
+    }
+  }
+
+  public T peek() {
+    while (true) {
+      Node<T> next = head.get().next.get();
+      if (next == null)
+        throw new IllegalStateException("Queue is empty");
+      T elem = next.elem;
+      if (elem != null)
+        return elem;
+    }
+  }
+
+  public void enqueue(T elem) {
+    offer(elem);
+  }
+
+  public T dequeue() {
+    T elem = poll();
+    if (elem == null)
+      throw new IllegalStateException("Queue is empty");
+    return elem;
+  }
+
+  public long casFailures() {
+    return casFailures.sum();
+  }
+
+  public long tailHelps() {
+    return tailHelps.sum();
+  }
+
+  // Слабко узгоджений ітератор: не кидає ConcurrentModificationException,
+  // бачить елементи, що були в черзі на момент створення, і, можливо,
+  // частину доданих пізніше.
+  @Override
+  public java.util.Iterator<T> iterator() {
+    return new java.util.Iterator<T>() {
+      Node<T> node = head.get().next.get();
+      T nextElem = advance();
+
+      private T advance() {
+        while (node != null) {
+          T elem = node.elem;
+          node = node.next.get();
+          if (elem != null)
+            return elem;
+        }
+        return null;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return nextElem != null;
+      }
+
+      @Override
+      public T next() {
+        if (nextElem == null)
+          throw new NoSuchElementException();
+        T elem = nextElem;
+        nextElem = advance();
+        return elem;
+      }
+    };
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    LinkedConcurrentQueue<Integer> queue = new LinkedConcurrentQueue<>();
+
+    int producers = 4;
+    int perProducer = 100_000;
+    Thread[] threads = new Thread[producers];
+    for (int p = 0; p < producers; p++) {
+      threads[p] = new Thread(() -> {
+        for (int i = 1; i <= perProducer; i++)
+          queue.enqueue(i);
+      });
+      threads[p].start();
+    }
+
+    long sum = 0;
+    for (int i = 0; i < producers * perProducer; i++) {
+      Integer elem;
+      while ((elem = queue.poll()) == null)
+        Thread.yield();
+      sum += elem;
+    }
+    for (Thread t : threads)
+      t.join();
+
+    System.out.println("Sum: " + sum); // 4 * 100000 * 100001 / 2 = 20000200000
+    System.out.println("Empty: " + queue.isEmpty()); // true
+    System.out.println("CAS failures: " + queue.casFailures() + ", tail helps: " + queue.tailHelps());
+  }
+}
@@ -0,0 +1,260 @@
+package structures.Queue;
+
+import java.util.Arrays;
+
+import structures.DynamicArray.DynamicArray;
+import structures.DynamicArray.LongDynamicArray;
+
+// Варіант DaryHeap з пріоритетами long (наприклад, дедлайни таймерів).
+// Пріоритети лежать у long[] у порядку купи, тож просіювання не розпаковує
+// Long і не ходить по посиланнях. Замість об'єктів-дескрипторів —
+// цілі ідентифікатори: pos[id] дає позицію в купі, ids[i] — ідентифікатор
+// на позиції i. Звільнені ідентифікатори перевикористовуються, тому
+// дескриптор - це long з ідентифікатором у молодших 32 бітах і поколінням
+// ідентифікатора в старших. Видалення збільшує покоління, тож старий
+// дескриптор відхиляється, навіть коли його ідентифікатор уже зайнятий.
+public class LongDaryHeap<V> {
+
+  private static final int DEFAULT_ARITY = 4;
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private final int arity;
+  // за позицією в купі
+  private long[] priorities;
+  private int[] ids;
+  private int size = 0;
+  // за ідентифікатором
+  private int[] pos; // -1, якщо ідентифікатор вільний
+  private Object[] values;
+  private int[] generations;
+  private int nextId = 0;
+  private int[] freeIds = new int[DEFAULT_CAPACITY];
+  private int freeCount = 0;
+
+  public LongDaryHeap() {
+    this(DEFAULT_ARITY);
+  }
+
+  public LongDaryHeap(int arity) {
+    if (arity < 2)
+      throw new IllegalArgumentException("Illegal arity: " + arity);
+    this.arity = arity;
+    priorities = new long[DEFAULT_CAPACITY];
+    ids = new int[DEFAULT_CAPACITY];
+    pos = new int[DEFAULT_CAPACITY];
+    values = new Object[DEFAULT_CAPACITY];
+    generations = new int[DEFAULT_CAPACITY];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  // Повертає дескриптор елемента.
+  public long add(long priority, V value) {
+    int id = append(priority, value);
+    siftUp(size - 1);
+    return handle(id);
+  }
+
+  // Пачка додається за O(n), якщо вона не менша за купу (див. DaryHeap.addAll).
+  // Повертає дескриптори в порядку вхідних масивів.
+  public LongDynamicArray addAll(LongDynamicArray priorities, DynamicArray<? extends V> values) {
+    int count = priorities.size();
+    if (values.size() != count)
+      throw new IllegalArgumentException("Priorities and values differ in size");
+    LongDynamicArray handles = new LongDynamicArray(count);
+    boolean rebuild = count >= size;
+    for (int i = 0; i < count; i++) {
+      handles.add(handle(append(priorities.get(i), values.get(i))));
+      if (!rebuild)
+        siftUp(size - 1);
+    }
+    if (rebuild && size > 1) {
+      for (int i = (size - 2) / arity; i >= 0; i--)
+        siftDown(i);
+    }
+    return handles;
+  }
+
+  public long peekPriority() {
+    if (size == 0)
+      throw new IllegalStateException("Heap is empty");
+    return priorities[0];
+  }
+
+  // Повертає null, якщо купа порожня.
+  @SuppressWarnings("unchecked")
+  public V peek() {
+    return size == 0 ? null : (V) values[ids[0]];
+  }
+
+  // Повертає null, якщо купа порожня.
+  public V poll() {
+    return size == 0 ? null : removeAtPosition(0);
+  }
+
+  public V removeMin() {
+    if (size == 0)
+      throw new IllegalStateException("Heap is empty");
+    return removeAtPosition(0);
+  }
+
+  public V remove(long handle) {
+    return removeAtPosition(position(handle));
+  }
+
+  public void decreaseKey(long handle, long newPriority) {
+    int index = position(handle);
+    if (newPriority > priorities[index])
+      throw new IllegalArgumentException("New key is greater than current key");
+    priorities[index] = newPriority;
+    siftUp(index);
+  }
+
+  public boolean contains(long handle) {
+    int id = (int) handle;
+    return id >= 0 && id < nextId && pos[id] != -1 && generations[id] == (int) (handle >>> 32);
+  }
+
+  public long priorityOf(long handle) {
+    return priorities[position(handle)];
+  }
+
+  @SuppressWarnings("unchecked")
+  public V valueOf(long handle) {
+    position(handle);
+    return (V) values[(int) handle];
+  }
+
+  public void clear() {
+    // Покоління не скидаються: дескриптори живих елементів стають недійсними.
+    for (int i = 0; i < size; i++)
+      generations[ids[i]]++;
+    Arrays.fill(values, 0, nextId, null);
+    Arrays.fill(pos, 0, nextId, -1);
+    size = 0;
+    nextId = 0;
+    freeCount = 0;
+  }
+
+  private int position(long handle) {
+    if (!contains(handle))
+      throw new IllegalArgumentException("Unknown handle: " + handle);
+    return pos[(int) handle];
+  }
+
+  private long handle(int id) {
+    return (long) generations[id] << 32 | id;
+  }
+
+  private int append(long priority, V value) {
+    int id = freeCount > 0 ? freeIds[--freeCount] : newId();
+    if (size == priorities.length) {
+      priorities = Arrays.copyOf(priorities, size * 2);
+      ids = Arrays.copyOf(ids, size * 2);
+    }
+    priorities[size] = priority;
+    ids[size] = id;
+    pos[id] = size;
+    values[id] = value;
+    size++;
+    return id;
+  }
+
+  private int newId() {
+    if (nextId == pos.length) {
+      pos = Arrays.copyOf(pos, nextId * 2);
+      values = Arrays.copyOf(values, nextId * 2);
+      generations = Arrays.copyOf(generations, nextId * 2);
+    }
+    return nextId++;
+  }
+
+  @SuppressWarnings("unchecked")
+  private V removeAtPosition(int index) {
+    int id = ids[index];
+    V value = (V) values[id];
+    values[id] = null;
+    pos[id] = -1;
+    generations[id]++;
+    if (freeCount == freeIds.length)
+      freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+    freeIds[freeCount++] = id;
+
+    size--;
+    if (index != size) {
+      move(size, index);
+      int moved = ids[index];
+      siftDown(index);
+      if (ids[index] == moved)
+        siftUp(index);
+    }
+    return value;
+  }
+
+  private void move(int from, int to) {
+    priorities[to] = priorities[from];
+    ids[to] = ids[from];
+    pos[ids[to]] = to;
+  }
+
+  private void siftUp(int index) {
+    long priority = priorities[index];
+    int id = ids[index];
+    while (index > 0) {
+      int parent = (index - 1) / arity;
+      if (priority >= priorities[parent])
+        break;
+      move(parent, index);
+      index = parent;
+    }
+    priorities[index] = priority;
+    ids[index] = id;
+    pos[id] = index;
+  }
+
+  private void siftDown(int index) {
+    long priority = priorities[index];
+    int id = ids[index];
+    while (true) {
+      int first = arity * index + 1;
+      if (first >= size)
+        break;
+      int end = Math.min(first + arity, size);
+      int min = first;
+      for (int child = first + 1; child < end; child++)
+        if (priorities[child] < priorities[min])
+          min = child;
+      if (priorities[min] >= priority)
+        break;
+      move(min, index);
+      index = min;
+    }
+    priorities[index] = priority;
+    ids[index] = id;
+    pos[id] = index;
+  }
+
+  public static void main(String[] args) {
+    LongDaryHeap<String> timers = new LongDaryHeap<>();
+    timers.add(500, "flush");
+    long retry = timers.add(300, "retry");
+    long cancelled = timers.add(100, "cancelled");
+    timers.add(200, "heartbeat");
+
+    timers.remove(cancelled);
+    timers.decreaseKey(retry, 50);
+
+    StringBuilder sb = new StringBuilder();
+    while (!timers.isEmpty()) {
+      long deadline = timers.peekPriority();
+      sb.append(deadline).append(':').append(timers.poll()).append(' ');
+    }
+    System.out.println(sb.toString().trim()); // 50:retry 200:heartbeat 500:flush
+  }
+}
@@ -0,0 +1,56 @@
+package structures.Queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Лічильник, доповнений з обох боків до розміру кеш-лінії, щоб індекси
+// голови й хвоста різних потоків не ділили одну лінію (false sharing) ні між
+// собою, ні з сусідніми в пам'яті об'єктами. HotSpot розкладає поля
+// надкласу перед полями підкласу, тому value опиняється між двома блоками
+// по 64 байти.
+final class PaddedCounter extends PaddedCounterValue {
+  @SuppressWarnings("unused")
+  long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class PaddedCounterLhs {
+  @SuppressWarnings("unused")
+  long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class PaddedCounterValue extends PaddedCounterLhs {
+  private static final VarHandle VALUE;
+
+  static {
+    try {
+      VALUE = MethodHandles.lookup().findVarHandle(PaddedCounterValue.class, "value", long.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private volatile long value;
+  // Звичайне поле власника лічильника на тій самій лінії, що й value
+  // (SpscArrayQueue тримає тут копію чужого індексу).
+  long cache;
+
+  final long get() {
+    return value;
+  }
+
+  final long getPlain() {
+    return (long) VALUE.get(this);
+  }
+
+  final long getAcquire() {
+    return (long) VALUE.getAcquire(this);
+  }
+
+  final void setRelease(long newValue) {
+    VALUE.setRelease(this, newValue);
+  }
+
+  final boolean compareAndSet(long expected, long newValue) {
+    return VALUE.compareAndSet(this, expected, newValue);
+  }
+}
@@ -1,7 +1,7 @@
 package structures.Queue;
 
 public class Queue<T> implements Iterable<T> {
-  private java.util.LinkedList<T> list = new java.util.LinkedList<T>();
+  private CircularArrayDeque<T> deque = new CircularArrayDeque<T>();
 
   public Queue() {
   }
@@ -11,7 +11,7 @@ public class Queue<T> implements Iterable<T> {
   }
 
   public int size() {
-    return list.size();
+    return deque.size();
   }
 
   public boolean isEmpty() {
@@ -21,27 +21,40 @@ public class Queue<T> implements Iterable<T> {
   public T peek() {
     if (isEmpty())
       throw new IllegalStateException("Queue is empty");
-    return list.peekFirst();
+    return deque.peekFirst();
   }
 
   public void enqueue(T elem) {
-    list.addLast(elem);
+    deque.addLast(elem);
   }
 
   public T dequeue() {
     if (isEmpty())
       throw new IllegalStateException("Queue is empty");
-    return list.removeFirst();
+    return deque.removeFirst();
   }
 
   @Override
   public java.util.Iterator<T> iterator() {
-    return list.iterator();
+    return deque.iterator();
+  }
+
+  @Override
+  public java.util.Spliterator<T> spliterator() {
+    return deque.spliterator();
+  }
+
+  public java.util.stream.Stream<T> stream() {
+    return deque.stream();
+  }
+
+  public java.util.stream.Stream<T> parallelStream() {
+    return deque.parallelStream();
   }
 
   @Override
   public String toString() {
-    return list.toString();
+    return deque.toString();
   }
 
   public static void main(String[] args) {
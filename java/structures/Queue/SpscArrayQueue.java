@@ -0,0 +1,178 @@
+package structures.Queue;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Обмежена кільцева черга для рівно одного виробника і одного споживача.
+// CAS не потрібен: кожен індекс змінює лише один потік, і він публікує його
+// впорядкованим записом (setRelease). Чужий індекс кешується локально й
+// перечитується тільки коли черга здається повною/порожньою.
+// drain/fill обробляють пачку елементів за одну публікацію індексу.
+public class SpscArrayQueue<T> {
+
+  // Кожен бік тримає копію чужого індексу у своєму доповненому лічильнику
+  // (поле cache), тож запис у кеш не чіпає лінію іншого потоку:
+  // tail.cache — копія head у виробника, head.cache — копія tail у споживача.
+  private final PaddedCounter head = new PaddedCounter(); // пише лише споживач
+  private final PaddedCounter tail = new PaddedCounter(); // пише лише виробник
+  private final Object[] data;
+  private final int mask;
+
+  public SpscArrayQueue(int capacity) {
+    if (capacity < 1 || capacity > (1 << 30))
+      throw new IllegalArgumentException("Illegal capacity: " + capacity);
+    int actual = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    data = new Object[actual];
+    mask = actual - 1;
+  }
+
+  public int capacity() {
+    return data.length;
+  }
+
+  public int size() {
+    while (true) {
+      long h = head.getAcquire();
+      long t = tail.getAcquire();
+      if (h == head.getAcquire())
+        return (int) Math.max(0, Math.min(t - h, data.length));
+    }
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  // ---------------- producer side ----------------
+  public boolean offer(T elem) {
+    if (elem == null)
+      throw new NullPointerException();
+    long t = tail.getPlain();
+    if (t - tail.cache >= data.length) {
+      tail.cache = head.getAcquire();
+      if (t - tail.cache >= data.length)
+        return false; // черга заповнена
+    }
+    data[(int) t & mask] = elem;
+    tail.setRelease(t + 1);
+    return true;
+  }
+
+  public void enqueue(T elem) {
+    if (!offer(elem))
+      throw new IllegalStateException("Queue is full");
+  }
+
+  // Додає до limit елементів від supplier, скільки вміщується; повертає кількість.
+  public int fill(Supplier<? extends T> supplier, int limit) {
+    long t = tail.getPlain();
+    long free = data.length - (t - tail.cache);
+    if (free < limit) {
+      tail.cache = head.getAcquire();
+      free = data.length - (t - tail.cache);
+    }
+    int n = (int) Math.min(free, limit);
+    int added = 0;
+    try {
+      for (; added < n; added++) {
+        T elem = supplier.get();
+        if (elem == null)
+          throw new NullPointerException();
+        data[(int) (t + added) & mask] = elem;
+      }
+    } finally {
+      if (added > 0)
+        tail.setRelease(t + added);
+    }
+    return added;
+  }
+
+  // ---------------- consumer side ----------------
+  @SuppressWarnings("unchecked")
+  public T poll() {
+    long h = head.getPlain();
+    if (h >= head.cache) {
+      head.cache = tail.getAcquire();
+      if (h >= head.cache)
+        return null; // черга порожня
+    }
+    int index = (int) h & mask;
+    T elem = (T) data[index];
+    data[index] = null; // очищення для збору сміття
+    head.setRelease(h + 1);
+    return elem;
+  }
+
+  @SuppressWarnings("unchecked")
+  public T peek() {
+    long h = head.getPlain();
+    if (h >= head.cache) {
+      head.cache = tail.getAcquire();
+      if (h >= head.cache)
+        return null;
+    }
+    return (T) data[(int) h & mask];
+  }
+
+  public T dequeue() {
+    T elem = poll();
+    if (elem == null)
+      throw new NoSuchElementException("Queue is empty");
+    return elem;
+  }
+
+  // Передає consumer до limit наявних елементів; повертає кількість.
+  @SuppressWarnings("unchecked")
+  public int drain(Consumer<? super T> consumer, int limit) {
+    long h = head.getPlain();
+    long available = head.cache - h;
+    if (available < limit) {
+      head.cache = tail.getAcquire();
+      available = head.cache - h;
+    }
+    int n = (int) Math.min(available, limit);
+    int taken = 0;
+    try {
+      while (taken < n) {
+        int index = (int) (h + taken) & mask;
+        T elem = (T) data[index];
+        data[index] = null;
+        taken++;
+        consumer.accept(elem);
+      }
+    } finally {
+      if (taken > 0)
+        head.setRelease(h + taken);
+    }
+    return taken;
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(1024);
+    int count = 1_000_000;
+
+    Thread producer = new Thread(() -> {
+      int[] next = { 1 };
+      while (next[0] <= count) {
+        int batch = Math.min(64, count - next[0] + 1);
+        if (queue.fill(() -> next[0]++, batch) == 0)
+          Thread.yield();
+      }
+    });
+    producer.start();
+
+    long[] sum = { 0 };
+    int received = 0;
+    while (received < count) {
+      int n = queue.drain(v -> sum[0] += v, 256);
+      if (n == 0)
+        Thread.yield();
+      received += n;
+    }
+    producer.join();
+
+    System.out.println("Sum: " + sum[0]); // 500000500000
+    System.out.println("Empty: " + queue.isEmpty()); // true
+  }
+}
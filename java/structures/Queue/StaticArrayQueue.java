@@ -2,6 +2,11 @@ package structures.Queue;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import structures.Parallel.IndexedSpliterator;
 
 public class StaticArrayQueue<T> implements Iterable<T> {
 
@@ -23,6 +28,10 @@ public class StaticArrayQueue<T> implements Iterable<T> {
     return size == 0;
   }
 
+  public int capacity() {
+    return data.length;
+  }
+
   public boolean isFull() {
     return size == data.length;
   }
@@ -72,6 +81,21 @@ public class StaticArrayQueue<T> implements Iterable<T> {
     };
   }
 
+  @Override
+  public Spliterator<T> spliterator() {
+    T[] array = data;
+    int start = head;
+    return new IndexedSpliterator<>(i -> array[(start + i) % array.length], 0, size);
+  }
+
+  public Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  public Stream<T> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
   public static void main(String[] args) {
     StaticArrayQueue<Integer> queue = new StaticArrayQueue<>(5);
     queue.enqueue(1);
@@ -0,0 +1,275 @@
+package structures.Queue;
+
+import java.util.concurrent.TimeUnit;
+
+// Ієрархічне хешоване колесо таймерів (Varghese & Lauck). Рівень l має
+// wheelSize кошиків, кожен кошик охоплює wheelSize^l тіків. Кошик — це
+// інтрузивний двозв'язний список, як у DoublyLinkedList: вузлом є сам таймер,
+// тож schedule і cancel — O(1) без пошуку й без додаткових вузлів.
+//
+// Таймер з дедлайном D кладеться на найнижчий рівень, вище якого D і
+// поточний тік збігаються в усіх "цифрах" (по log2(wheelSize) біт). Коли
+// нижчий рівень робить повний оберт, відповідний кошик вищого рівня
+// перерозкладається вниз. Дедлайни за межами діапазону колеса
+// (wheelSize^levels тіків) чекають на верхньому рівні й переглядаються на
+// кожному його оберті; спрацьовує лише таймер, чий дедлайн уже настав.
+//
+// Колесо не потокобезпечне: schedule/cancel/tick викликає один потік-драйвер.
+public class TimingWheel {
+
+  // Непрозорий дескриптор запланованого завдання.
+  public interface Timeout {
+    Runnable task();
+
+    long deadline(); // у тіках колеса
+
+    boolean isPending();
+  }
+
+  private static final int PENDING = 0, EXPIRED = 1, CANCELLED = 2;
+
+  private static class Entry implements Timeout {
+    final Runnable task;
+    final long deadline;
+    int state = PENDING;
+    Entry prev, next;
+    Bucket bucket; // null, поки таймер не в кошику
+    final TimingWheel owner;
+
+    Entry(Runnable task, long deadline, TimingWheel owner) {
+      this.task = task;
+      this.deadline = deadline;
+      this.owner = owner;
+    }
+
+    @Override
+    public Runnable task() {
+      return task;
+    }
+
+    @Override
+    public long deadline() {
+      return deadline;
+    }
+
+    @Override
+    public boolean isPending() {
+      return state == PENDING;
+    }
+  }
+
+  private static class Bucket {
+    Entry head, tail;
+
+    void linkLast(Entry entry) {
+      entry.bucket = this;
+      entry.prev = tail;
+      entry.next = null;
+      if (tail == null)
+        head = entry;
+      else
+        tail.next = entry;
+      tail = entry;
+    }
+
+    void unlink(Entry entry) {
+      if (entry.prev == null)
+        head = entry.next;
+      else
+        entry.prev.next = entry.next;
+      if (entry.next == null)
+        tail = entry.prev;
+      else
+        entry.next.prev = entry.prev;
+      entry.prev = entry.next = null;
+      entry.bucket = null;
+    }
+
+    // Від'єднує весь ланцюжок за O(1) і повертає його голову.
+    Entry detachAll() {
+      Entry first = head;
+      head = tail = null;
+      return first;
+    }
+  }
+
+  private final long tickNanos;
+  private final int bits;
+  private final int mask;
+  private final int levels;
+  private final Bucket[] buckets; // levels * wheelSize, рівень за рівнем
+
+  private long now = 0; // поточний тік
+  private int size = 0;
+
+  // Таймери, що спливли під час advance; колбеки викликаються пачкою.
+  private final Bucket expired = new Bucket();
+
+  public TimingWheel(long tickDuration, TimeUnit unit, int wheelSize, int levels) {
+    if (tickDuration <= 0)
+      throw new IllegalArgumentException("Illegal tick duration: " + tickDuration);
+    if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1)
+      throw new IllegalArgumentException("Wheel size must be a power of two: " + wheelSize);
+    int bits = Integer.numberOfTrailingZeros(wheelSize);
+    if (levels < 1 || (long) levels * bits > 62)
+      throw new IllegalArgumentException("Illegal number of levels: " + levels);
+    this.tickNanos = unit.toNanos(tickDuration);
+    this.bits = bits;
+    this.mask = wheelSize - 1;
+    this.levels = levels;
+    buckets = new Bucket[levels * wheelSize];
+    for (int i = 0; i < buckets.length; i++)
+      buckets[i] = new Bucket();
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public long currentTick() {
+    return now;
+  }
+
+  // Затримка округлюється вгору до цілого числа тіків, мінімум один тік.
+  // Дуже великі затримки (наприклад, Long.MAX_VALUE як "ніколи") насичують
+  // дедлайн до Long.MAX_VALUE замість переповнення.
+  public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+    if (task == null)
+      throw new NullPointerException();
+    long nanos = Math.max(0, unit.toNanos(delay));
+    long ticks = Math.max(1, nanos / tickNanos + (nanos % tickNanos != 0 ? 1 : 0));
+    long deadline = ticks > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + ticks;
+    Entry entry = new Entry(task, deadline, this);
+    place(entry);
+    size++;
+    return entry;
+  }
+
+  // Повертає false, якщо таймер уже спрацював або скасований.
+  public boolean cancel(Timeout timeout) {
+    if (!(timeout instanceof Entry) || ((Entry) timeout).owner != this)
+      throw new IllegalArgumentException("Timeout does not belong to this wheel");
+    Entry entry = (Entry) timeout;
+    if (entry.state != PENDING)
+      return false;
+    entry.bucket.unlink(entry);
+    entry.state = CANCELLED;
+    size--;
+    return true;
+  }
+
+  // Один тік. Повертає кількість виконаних завдань.
+  public int tick() {
+    return advance(1);
+  }
+
+  // Просуває колесо на ticks тіків, потім виконує всі завдання, що спливли,
+  // однією пачкою в порядку дедлайнів.
+  public int advance(long ticks) {
+    for (long i = 0; i < ticks; i++)
+      step();
+    return runExpired();
+  }
+
+  // Просуває колесо до моменту time від створення колеса.
+  public int advanceTo(long time, TimeUnit unit) {
+    long target = unit.toNanos(time) / tickNanos;
+    return advance(Math.max(0, target - now));
+  }
+
+  private void step() {
+    now++;
+    // Спершу перерозкладаємо вищі рівні, чиї нижчі сусіди щойно зробили оберт.
+    int wrapped = 0;
+    while (wrapped + 1 < levels && (now & ((1L << (bits * (wrapped + 1))) - 1)) == 0)
+      wrapped++;
+    for (int level = wrapped; level >= 1; level--)
+      replaceAll(bucket(level, now));
+    // Рівень 0 теж проходимо через place: таймер з дедлайном за межами
+    // діапазону колеса, що лежить тут, повертається в кошик на наступний оберт.
+    replaceAll(bucket(0, now));
+  }
+
+  private void replaceAll(Bucket bucket) {
+    Entry entry = bucket.detachAll();
+    while (entry != null) {
+      Entry next = entry.next;
+      entry.bucket = null;
+      place(entry);
+      entry = next;
+    }
+  }
+
+  private void place(Entry entry) {
+    long deadline = entry.deadline;
+    if (deadline <= now) {
+      expired.linkLast(entry);
+      return;
+    }
+    // Найвищий біт, у якому дедлайн відрізняється від поточного тіку,
+    // визначає рівень.
+    int level = (63 - Long.numberOfLeadingZeros(deadline ^ now)) / bits;
+    if (level >= levels)
+      level = levels - 1; // далекий дедлайн: переглянемо на верхньому рівні
+    bucket(level, deadline).linkLast(entry);
+  }
+
+  private Bucket bucket(int level, long tick) {
+    return buckets[(level << bits) + (int) ((tick >>> (bits * level)) & mask)];
+  }
+
+  private int runExpired() {
+    Entry first = expired.detachAll();
+    // Спершу вся пачка позначається як виконана: завдання, що скасовує
+    // сусіда по пачці, отримає false і не зламає ланцюжок.
+    int count = 0;
+    for (Entry e = first; e != null; e = e.next) {
+      e.bucket = null;
+      e.state = EXPIRED;
+      count++;
+    }
+    size -= count;
+    RuntimeException failure = null;
+    Entry entry = first;
+    while (entry != null) {
+      Entry next = entry.next;
+      entry.prev = entry.next = null;
+      try {
+        entry.task.run();
+      } catch (RuntimeException e) {
+        // решта пачки все одно виконується; перший виняток — наприкінці
+        if (failure == null)
+          failure = e;
+        else
+          failure.addSuppressed(e);
+      }
+      entry = next;
+    }
+    if (failure != null)
+      throw failure;
+    return count;
+  }
+
+  public static void main(String[] args) {
+    // 1 мс на тік, 64 кошики на рівень, 4 рівні: до 64^4 мс ≈ 4.6 години
+    TimingWheel wheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 64, 4);
+    StringBuilder fired = new StringBuilder();
+
+    wheel.schedule(() -> fired.append("A "), 5, TimeUnit.MILLISECONDS);
+    Timeout b = wheel.schedule(() -> fired.append("B "), 10, TimeUnit.MILLISECONDS);
+    wheel.schedule(() -> fired.append("C "), 5_000, TimeUnit.MILLISECONDS);
+    wheel.schedule(() -> fired.append("D "), 3, TimeUnit.SECONDS);
+
+    wheel.cancel(b);
+    System.out.println("Pending: " + wheel.size()); // 3
+
+    System.out.println("Fired at 10 ms: " + wheel.advanceTo(10, TimeUnit.MILLISECONDS)); // 1
+    System.out.println("Fired at 6 s: " + wheel.advanceTo(6, TimeUnit.SECONDS)); // 2
+    System.out.println(fired.toString().trim()); // A D C
+    System.out.println("Pending: " + wheel.size()); // 0
+  }
+}
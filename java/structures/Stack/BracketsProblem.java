@@ -1,10 +1,85 @@
 package structures.Stack;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
 public class BracketsProblem {
+  private static final int CHUNK = 1 << 16; // 64 КБ на читання
+
   public static boolean isBalanced(String expression) {
-    Stack<Character> stack = new Stack<>(); // Створення об'єкта стеку для символів
+    return firstMismatch(expression) == -1;
+  }
+
+  public static boolean isBalanced(Reader reader) throws IOException {
+    return firstMismatch(reader) == -1;
+  }
+
+  // Повертає -1, якщо дужки збалансовані, інакше позицію першої помилки:
+  // індекс зайвої або неправильної закриваючої дужки, або довжину входу,
+  // якщо наприкінці лишилися незакриті дужки.
+  public static long firstMismatch(CharSequence expression) {
+    Validator validator = new Validator();
+    for (int i = 0; i < expression.length(); i++) {
+      if (!validator.accept(expression.charAt(i)))
+        return validator.position;
+    }
+    return validator.finish();
+  }
 
-    for (char c : expression.toCharArray()) {
+  // Потокові варіанти: вхід читається шматками, пам'ять — лише буфер і
+  // стек глибиною у вкладеність.
+  public static long firstMismatch(Reader reader) throws IOException {
+    Validator validator = new Validator();
+    char[] buffer = new char[CHUNK];
+    int read;
+    while ((read = reader.read(buffer)) != -1) {
+      for (int i = 0; i < read; i++) {
+        if (!validator.accept(buffer[i]))
+          return validator.position;
+      }
+    }
+    return validator.finish();
+  }
+
+  // Позиції — у байтах. Дужки є ASCII, а в UTF-8 байти багатобайтових
+  // символів ніколи не потрапляють у діапазон ASCII, тож декодування не
+  // потрібне.
+  public static long firstMismatch(ReadableByteChannel channel) throws IOException {
+    Validator validator = new Validator();
+    ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK);
+    while (channel.read(buffer) != -1) {
+      buffer.flip();
+      if (!validator.accept(buffer))
+        return validator.position;
+      buffer.clear();
+    }
+    return validator.finish();
+  }
+
+  // Файл читається через канал тим самим прямим буфером, а не відображається
+  // в пам'ять: відображені вікна не звільняються до збору сміття і для
+  // багатогігабайтних файлів накопичують адресний простір і page cache.
+  public static long firstMismatch(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return firstMismatch((ReadableByteChannel) channel);
+    }
+  }
+
+  // Стан перевірки між шматками: стек відкритих дужок і поточна позиція.
+  private static final class Validator {
+    private final CharStack stack = new CharStack(); // Стек примітивних char, без упаковки
+    private long position = 0;
+
+    boolean accept(char c) {
       if (c == '{' || c == '[' || c == '(') {
         stack.push(c);
       } else if (c == '}' || c == ']' || c == ')') {
@@ -16,9 +91,21 @@ public class BracketsProblem {
           return false; // Неправильна пара дужок
         }
       }
+      position++;
+      return true;
     }
 
-    return stack.isEmpty(); // Якщо стек порожній, дужки збалансовані
+    boolean accept(ByteBuffer buffer) {
+      for (int i = buffer.position(); i < buffer.limit(); i++) {
+        if (!accept((char) (buffer.get(i) & 0xFF)))
+          return false;
+      }
+      return true;
+    }
+
+    long finish() {
+      return stack.isEmpty() ? -1 : position; // Якщо стек порожній, дужки збалансовані
+    }
   }
 
   private static boolean isMatchingPair(char open, char close) {
@@ -27,8 +114,22 @@ public class BracketsProblem {
         (open == '{' && close == '}');
   }
 
-  public static void main(String[] args) {
+  public static void main(String[] args) throws IOException {
     String expression = "{[()]}";
     System.out.println("Is the expression balanced? " + isBalanced(expression));
+
+    System.out.println("First mismatch: " + firstMismatch(new StringReader("{\"a\": [1, 2)}"))); // 11
+    System.out.println("First mismatch: " + firstMismatch("(()")); // 3
+
+    byte[] json = "{\"ключ\": [\"значення\"]}".getBytes(StandardCharsets.UTF_8);
+    System.out.println("Channel: " + firstMismatch(Channels.newChannel(new java.io.ByteArrayInputStream(json)))); // -1
+
+    Path file = Files.createTempFile("brackets", ".json");
+    try {
+      Files.write(file, json);
+      System.out.println("File: " + firstMismatch(file)); // -1
+    } finally {
+      Files.delete(file);
+    }
   }
 }
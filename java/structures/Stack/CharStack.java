@@ -0,0 +1,49 @@
+package structures.Stack;
+
+import java.util.Arrays;
+
+// Стек примітивних char без упаковки в Character.
+public class CharStack {
+  private char[] data;
+  private int size = 0;
+
+  public CharStack() {
+    this(16);
+  }
+
+  public CharStack(int initialCapacity) {
+    if (initialCapacity < 0)
+      throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+    data = new char[Math.max(initialCapacity, 1)];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void push(char elem) {
+    if (size == data.length)
+      data = Arrays.copyOf(data, data.length * 2);
+    data[size++] = elem;
+  }
+
+  public char pop() {
+    if (isEmpty())
+      throw new IllegalStateException("Stack is empty");
+    return data[--size];
+  }
+
+  public char peek() {
+    if (isEmpty())
+      throw new IllegalStateException("Stack is empty");
+    return data[size - 1];
+  }
+
+  public void clear() {
+    size = 0;
+  }
+}
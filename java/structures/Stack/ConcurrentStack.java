@@ -0,0 +1,192 @@
+package structures.Stack;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Потокобезпечний стек без блокувань (стек Трайбера): вершина змінюється
+// одним CAS. Вузли незмінні, тож ABA неможлива — кожен push створює новий
+// вузол, а старий не повертається, поки на нього є посилання.
+// Якщо CAS не вдався (конкуренція), потік пробує зустрітися з протилежною
+// операцією в масиві елімінації: push залишає вузол у випадковій комірці і
+// трохи чекає, pop забирає його звідти. Пара push/pop гаситься, не торкаючись
+// вершини, тому під навантаженням стек масштабується.
+public class ConcurrentStack<T> implements Iterable<T> {
+
+  private static final int ELIMINATION_SPINS = 128;
+
+  private static class Node<T> {
+    final T elem;
+    final Node<T> next;
+
+    Node(T elem, Node<T> next) {
+      this.elem = elem;
+      this.next = next;
+    }
+  }
+
+  private final AtomicReference<Node<T>> top = new AtomicReference<>();
+  private final AtomicReferenceArray<Node<T>> elimination;
+
+  // Лічильники конкуренції: невдалі CAS на вершині та погашені пари.
+  private final LongAdder casFailures = new LongAdder();
+  private final LongAdder eliminations = new LongAdder();
+
+  public ConcurrentStack() {
+    this(Math.min(Runtime.getRuntime().availableProcessors(), 32));
+  }
+
+  public ConcurrentStack(int eliminationWidth) {
+    if (eliminationWidth < 1)
+      throw new IllegalArgumentException("Illegal elimination width: " + eliminationWidth);
+    elimination = new AtomicReferenceArray<>(eliminationWidth);
+  }
+
+  // O(n): обходить поточний ланцюжок вузлів.
+  public int size() {
+    int size = 0;
+    for (Node<T> node = top.get(); node != null; node = node.next)
+      size++;
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return top.get() == null;
+  }
+
+  public void push(T elem) {
+    if (elem == null)
+      throw new NullPointerException();
+    Node<T> node = new Node<>(elem, top.get());
+    while (true) {
+      if (top.compareAndSet(node.next, node))
+        return;
+      casFailures.increment();
+      if (tryEliminatePush(node))
+        return;
+      node = new Node<>(elem, top.get());
+    }
+  }
+
+  // Повертає null, якщо стек порожній.
+  public T poll() {
+    while (true) {
+      Node<T> current = top.get();
+      if (current == null)
+        return null;
+      if (top.compareAndSet(current, current.next))
+        return current.elem;
+      casFailures.increment();
+      T elem = tryEliminatePop();
+      if (elem != null)
+        return elem;
+    }
+  }
+
+  public T pop() {
+    T elem = poll();
+    if (elem == null)
+      throw new IllegalStateException("Stack is empty");
+    return elem;
+  }
+
+  public T peek() {
+    Node<T> current = top.get();
+    if (current == null)
+      throw new IllegalStateException("Stack is empty");
+    return current.elem;
+  }
+
+  // push чекає в комірці; якщо вузол ніхто не забрав, знімає його сам.
+  private boolean tryEliminatePush(Node<T> node) {
+    int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+    if (!elimination.compareAndSet(slot, null, node))
+      return false;
+    for (int i = 0; i < ELIMINATION_SPINS; i++) {
+      if (elimination.get(slot) != node) {
+        eliminations.increment();
+        return true;
+      }
+      Thread.onSpinWait();
+    }
+    if (elimination.compareAndSet(slot, node, null))
+      return false;
+    eliminations.increment(); // забрали в останній момент
+    return true;
+  }
+
+  private T tryEliminatePop() {
+    int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+    Node<T> node = elimination.get(slot);
+    if (node != null && elimination.compareAndSet(slot, node, null))
+      return node.elem;
+    return null;
+  }
+
+  public long casFailures() {
+    return casFailures.sum();
+  }
+
+  public long eliminations() {
+    return eliminations.sum();
+  }
+
+  // Ітерація від дна до вершини, як у Stack. Вузли незмінні, тому це
+  // точний знімок стеку на момент виклику iterator().
+  @Override
+  @SuppressWarnings("unchecked")
+  public java.util.Iterator<T> iterator() {
+    Node<T> snapshot = top.get();
+    int count = 0;
+    for (Node<T> node = snapshot; node != null; node = node.next)
+      count++;
+    Object[] elems = new Object[count];
+    for (Node<T> node = snapshot; node != null; node = node.next)
+      elems[--count] = node.elem;
+    return new java.util.Iterator<T>() {
+      int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return index < elems.length;
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+        return (T) elems[index++];
+      }
+    };
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    ConcurrentStack<Integer> stack = new ConcurrentStack<>();
+
+    int threads = 4;
+    int perThread = 100_000;
+    Thread[] workers = new Thread[threads];
+    long[] popped = new long[threads];
+    for (int t = 0; t < threads; t++) {
+      int id = t;
+      workers[t] = new Thread(() -> {
+        for (int i = 1; i <= perThread; i++) {
+          stack.push(i);
+          popped[id] += stack.pop();
+        }
+      });
+      workers[t].start();
+    }
+    long sum = 0;
+    for (int t = 0; t < threads; t++) {
+      workers[t].join();
+      sum += popped[t];
+    }
+
+    System.out.println("Sum: " + sum); // 4 * 100000 * 100001 / 2 = 20000200000
+    System.out.println("Empty: " + stack.isEmpty()); // true
+    System.out.println("CAS failures: " + stack.casFailures() + ", eliminations: " + stack.eliminations());
+  }
+}
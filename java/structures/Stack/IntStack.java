@@ -0,0 +1,49 @@
+package structures.Stack;
+
+import java.util.Arrays;
+
+// Стек примітивних int без упаковки в Integer.
+public class IntStack {
+  private int[] data;
+  private int size = 0;
+
+  public IntStack() {
+    this(16);
+  }
+
+  public IntStack(int initialCapacity) {
+    if (initialCapacity < 0)
+      throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+    data = new int[Math.max(initialCapacity, 1)];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void push(int elem) {
+    if (size == data.length)
+      data = Arrays.copyOf(data, data.length * 2);
+    data[size++] = elem;
+  }
+
+  public int pop() {
+    if (isEmpty())
+      throw new IllegalStateException("Stack is empty");
+    return data[--size];
+  }
+
+  public int peek() {
+    if (isEmpty())
+      throw new IllegalStateException("Stack is empty");
+    return data[size - 1];
+  }
+
+  public void clear() {
+    size = 0;
+  }
+}
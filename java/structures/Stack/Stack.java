@@ -1,17 +1,37 @@
 package structures.Stack;
 
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Стек на неперервному масиві: push/pop/peek не виділяють пам'ять, масив
+// подвоюється при заповненні. З увімкненим shrink масив зменшується вдвічі,
+// коли заповнений на чверть.
 public class Stack<T> implements Iterable<T> {
-  private java.util.LinkedList<T> list = new java.util.LinkedList<T>();
+  private static final int DEFAULT_CAPACITY = 10;
+
+  private T[] data;
+  private int size = 0;
+  private final boolean shrink;
 
   public Stack() {
+    this(DEFAULT_CAPACITY, false);
   }
 
   public Stack(T firstElem) {
+    this();
     push(firstElem);
   }
 
+  @SuppressWarnings("unchecked")
+  public Stack(int initialCapacity, boolean shrink) {
+    if (initialCapacity < 0)
+      throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+    data = (T[]) new Object[Math.max(initialCapacity, 1)];
+    this.shrink = shrink;
+  }
+
   public int size() {
-    return list.size();
+    return size;
   }
 
   public boolean isEmpty() {
@@ -19,23 +39,44 @@ public class Stack<T> implements Iterable<T> {
   }
 
   public void push(T elem) {
-    list.addLast(elem);
+    if (size == data.length)
+      data = Arrays.copyOf(data, data.length * 2);
+    data[size++] = elem;
   }
 
   public T pop() {
     if (isEmpty())
       throw new IllegalStateException("Stack is empty");
-    return list.removeLast();
+    T elem = data[--size];
+    data[size] = null; // очищення для збору сміття
+    if (shrink && size > 0 && size == data.length / 4 && data.length > DEFAULT_CAPACITY)
+      data = Arrays.copyOf(data, data.length / 2);
+    return elem;
   }
 
   public T peek() {
     if (isEmpty())
       throw new IllegalStateException("Stack is empty");
-    return list.getLast();
+    return data[size - 1];
   }
 
+  // Ітерація від дна до вершини, як і раніше.
   @Override
   public java.util.Iterator<T> iterator() {
-    return list.iterator();
+    return new java.util.Iterator<T>() {
+      int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+        return data[index++];
+      }
+    };
   }
-}
\ No newline at end of file
+}